@@ -17,8 +17,12 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
-    implementation(platform("com.fasterxml.jackson:jackson-bom:2.20.0"))
-    implementation("com.fasterxml.jackson.core:jackson-databind")
+    // Jackson is only needed for the JsonNode accessors of LingonLang, so it is not published as a dependency;
+    // consumers who use those accessors add jackson-databind themselves
+    compileOnly(platform("com.fasterxml.jackson:jackson-bom:2.20.0"))
+    compileOnly("com.fasterxml.jackson.core:jackson-databind")
+    testImplementation(platform("com.fasterxml.jackson:jackson-bom:2.20.0"))
+    testImplementation("com.fasterxml.jackson.core:jackson-databind")
     api("org.slf4j:slf4j-api:2.0.17")
 }
 
@@ -0,0 +1,277 @@
+package io.aitchn.lingon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * A {@link TranslationSource} reading JSON files directly from the classpath,
+ * without copying them to the file system first.
+ * The expected layout is {@code languages/<xx_YY>/.../*.json} inside a directory or JAR file.
+ *
+ * <p>When the same document exists in several classpath roots, the first one found wins.
+ * The version of a snapshot is a digest of its contents.</p>
+ */
+public final class ClasspathTranslationSource implements TranslationSource {
+    private final ClassLoader classLoader;
+    private final String rootDirectory;
+
+    /**
+     * Creates a new classpath source reading from the {@code languages} directory.
+     *
+     * @param classLoader the class loader to read resources from
+     */
+    public ClasspathTranslationSource(ClassLoader classLoader) {
+        this(classLoader, TranslationDocuments.LANGUAGES_DIRECTORY);
+    }
+
+    /**
+     * Creates a new classpath source.
+     *
+     * @param classLoader the class loader to read resources from
+     * @param rootDirectory the resource directory containing one directory per locale
+     */
+    public ClasspathTranslationSource(ClassLoader classLoader, String rootDirectory) {
+        this.classLoader = Objects.requireNonNull(classLoader, "classLoader cannot be null");
+        Objects.requireNonNull(rootDirectory, "rootDirectory cannot be null");
+        this.rootDirectory = rootDirectory.endsWith("/")
+                ? rootDirectory.substring(0, rootDirectory.length() - 1)
+                : rootDirectory;
+    }
+
+    @Override
+    public TranslationSnapshot fetch(String knownVersion) throws IOException {
+        Map<String, Map<String, String>> documentsByLocale = readDocuments(null);
+        String version = TranslationDocuments.digest(documentsByLocale);
+        if (version.equals(knownVersion)) {
+            return null;
+        }
+        return new TranslationSnapshot(version, documentsByLocale);
+    }
+
+    @Override
+    public Set<String> fetchLocaleNames() throws IOException {
+        Set<String> localeNames = new TreeSet<>();
+        Enumeration<URL> roots = classLoader.getResources(rootDirectory);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("file".equals(root.getProtocol())) {
+                listDirectory(toPath(root), localeNames);
+            } else if ("jar".equals(root.getProtocol())) {
+                listJar(root, localeNames);
+            }
+        }
+        return Collections.unmodifiableSet(localeNames);
+    }
+
+    @Override
+    public Map<String, String> fetchLocale(String localeName) throws IOException {
+        return Collections.unmodifiableMap(readDocuments(localeName).getOrDefault(localeName, Map.of()));
+    }
+
+    /**
+     * Read the documents of all classpath roots.
+     *
+     * @param localeName the only locale to read, or null to read all locales
+     * @return locale directory names to dotted file names to raw JSON contents
+     * @throws IOException if unable to read a root
+     */
+    private Map<String, Map<String, String>> readDocuments(String localeName) throws IOException {
+        Map<String, Map<String, String>> documentsByLocale = new TreeMap<>();
+        String localePrefix = localeName == null ? "" : localeName + "/";
+
+        Enumeration<URL> roots = classLoader.getResources(rootDirectory);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("file".equals(root.getProtocol())) {
+                readDirectory(toPath(root), localePrefix, documentsByLocale);
+            } else if ("jar".equals(root.getProtocol())) {
+                readJar(root, localePrefix, documentsByLocale);
+            }
+        }
+        return documentsByLocale;
+    }
+
+    /**
+     * Read the locale documents below a classpath directory.
+     *
+     * @param rootPath the directory containing one directory per locale
+     * @param localePrefix the prefix relative paths must start with to be read (e.g., "en_US/"), or "" for all
+     * @param documentsByLocale the map to add documents to
+     * @throws IOException if unable to read the directory
+     */
+    private static void readDirectory(Path rootPath, String localePrefix,
+                                      Map<String, Map<String, String>> documentsByLocale) throws IOException {
+        if (!Files.isDirectory(rootPath)) {
+            return;
+        }
+
+        try (Stream<Path> pathStream = Files.walk(rootPath)) {
+            pathStream.filter(Files::isRegularFile)
+                    .filter(path -> TranslationDocuments.isJsonFile(path.getFileName().toString()))
+                    .forEach(filePath -> {
+                        String relativePath = rootPath.relativize(filePath).toString().replace('\\', '/');
+                        if (!relativePath.startsWith(localePrefix)) {
+                            return;
+                        }
+                        try {
+                            addDocument(relativePath, Files.readString(filePath, StandardCharsets.UTF_8), documentsByLocale);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("Failed to read " + filePath, e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Read the locale documents below a directory inside a JAR file.
+     *
+     * @param root the {@code jar:} URL of the directory
+     * @param localePrefix the prefix relative paths must start with to be read (e.g., "en_US/"), or "" for all
+     * @param documentsByLocale the map to add documents to
+     * @throws IOException if unable to read the JAR file
+     */
+    private void readJar(URL root, String localePrefix,
+                         Map<String, Map<String, String>> documentsByLocale) throws IOException {
+        URLConnection connection = root.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        String prefix = rootDirectory + "/";
+
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (entry.isDirectory() || !entryName.startsWith(prefix) || !TranslationDocuments.isJsonFile(entryName)) {
+                    continue;
+                }
+
+                String relativePath = entryName.substring(prefix.length());
+                if (!relativePath.startsWith(localePrefix)) {
+                    continue;
+                }
+                try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                    addDocument(relativePath, TranslationDocuments.readUtf8(inputStream), documentsByLocale);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the locale directory names below a classpath directory.
+     *
+     * @param rootPath the directory containing one directory per locale
+     * @param localeNames the set to add locale directory names to
+     * @throws IOException if unable to list the directory
+     */
+    private static void listDirectory(Path rootPath, Set<String> localeNames) throws IOException {
+        if (!Files.isDirectory(rootPath)) {
+            return;
+        }
+
+        try (Stream<Path> pathStream = Files.list(rootPath)) {
+            pathStream.filter(Files::isDirectory)
+                    .map(path -> path.getFileName().toString())
+                    .filter(TranslationDocuments::isLocaleName)
+                    .forEach(localeNames::add);
+        }
+    }
+
+    /**
+     * Collect the locale directory names below a directory inside a JAR file, without reading any entry.
+     *
+     * @param root the {@code jar:} URL of the directory
+     * @param localeNames the set to add locale directory names to
+     * @throws IOException if unable to read the JAR file
+     */
+    private void listJar(URL root, Set<String> localeNames) throws IOException {
+        URLConnection connection = root.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        String prefix = rootDirectory + "/";
+
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                int separator = entryName.indexOf('/', prefix.length());
+                if (!entryName.startsWith(prefix) || separator <= prefix.length()) {
+                    continue;
+                }
+
+                String localeName = entryName.substring(prefix.length(), separator);
+                if (TranslationDocuments.isLocaleName(localeName)) {
+                    localeNames.add(localeName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a document to the map if its path starts with a locale directory.
+     *
+     * @param relativePath the path relative to the root directory (e.g., "en_US/command/help.json")
+     * @param content the raw JSON content
+     * @param documentsByLocale the map to add the document to
+     */
+    private static void addDocument(String relativePath, String content, Map<String, Map<String, String>> documentsByLocale) {
+        int separator = relativePath.indexOf('/');
+        if (separator <= 0) {
+            return;
+        }
+
+        String localeName = relativePath.substring(0, separator);
+        if (!TranslationDocuments.isLocaleName(localeName)) {
+            return;
+        }
+
+        String dottedName = TranslationDocuments.toDottedName(relativePath.substring(separator + 1));
+        documentsByLocale.computeIfAbsent(localeName, key -> new LinkedHashMap<>())
+                .putIfAbsent(dottedName, content);
+    }
+
+    /**
+     * Convert a {@code file:} URL to a path.
+     *
+     * @param url the URL to convert
+     * @return the path
+     * @throws IOException if the URL is not a valid file URI
+     */
+    private static Path toPath(URL url) throws IOException {
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid classpath URL " + url, e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.aitchn.lingon;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link TranslationSource} reading JSON files from a languages directory on the file system.
+ * The expected layout is {@code <languagePath>/<xx_YY>/.../*.json}.
+ *
+ * <p>The version of a snapshot is derived from the names, sizes and modification times of the files,
+ * so an unchanged directory is detected without reading any file contents.</p>
+ */
+public final class FileSystemTranslationSource implements TranslationSource {
+    private final Path languagePath;
+
+    /**
+     * Creates a new file system source.
+     *
+     * @param languagePath the languages directory containing one directory per locale
+     */
+    public FileSystemTranslationSource(Path languagePath) {
+        this.languagePath = Objects.requireNonNull(languagePath, "languagePath cannot be null");
+    }
+
+    @Override
+    public TranslationSnapshot fetch(String knownVersion) throws IOException {
+        Map<String, List<Path>> filesByLocale = new LinkedHashMap<>();
+        for (String localeName : listLocales()) {
+            filesByLocale.put(localeName, listFiles(languagePath.resolve(localeName)));
+        }
+
+        String version = fingerprint(filesByLocale);
+        if (version.equals(knownVersion)) {
+            return null;
+        }
+
+        Map<String, Map<String, String>> documentsByLocale = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Path>> entry : filesByLocale.entrySet()) {
+            documentsByLocale.put(entry.getKey(), readFiles(languagePath.resolve(entry.getKey()), entry.getValue()));
+        }
+        return new TranslationSnapshot(version, documentsByLocale);
+    }
+
+    @Override
+    public Set<String> fetchLocaleNames() throws IOException {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(listLocales()));
+    }
+
+    @Override
+    public Map<String, String> fetchLocale(String localeName) throws IOException {
+        Path localePath = languagePath.resolve(localeName);
+        if (!Files.isDirectory(localePath)) {
+            return Map.of();
+        }
+        return readFiles(localePath, listFiles(localePath));
+    }
+
+    /**
+     * Get the languages directory this source reads from.
+     *
+     * @return the language path
+     */
+    public Path getLanguagePath() {
+        return languagePath;
+    }
+
+    /**
+     * Load all available locale directory names from the language path.
+     *
+     * @return a list of locale directory names
+     * @throws IOException if unable to read the directory
+     */
+    private List<String> listLocales() throws IOException {
+        if (!Files.isDirectory(languagePath)) {
+            return List.of();
+        }
+
+        List<String> localeNames = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(languagePath)) {
+            for (Path path : directoryStream) {
+                String fileName = path.getFileName().toString();
+                if (Files.isDirectory(path) && TranslationDocuments.isLocaleName(fileName)) {
+                    localeNames.add(fileName);
+                }
+            }
+        }
+        Collections.sort(localeNames);
+        return localeNames;
+    }
+
+    /**
+     * List all JSON files below a locale directory.
+     *
+     * @param localePath the locale directory
+     * @return a sorted list of JSON file paths
+     * @throws IOException if unable to walk the directory
+     */
+    private static List<Path> listFiles(Path localePath) throws IOException {
+        try (Stream<Path> pathStream = Files.walk(localePath)) {
+            return pathStream.filter(Files::isRegularFile)
+                    .filter(path -> TranslationDocuments.isJsonFile(path.getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Read JSON files of a locale directory.
+     *
+     * @param localePath the locale directory
+     * @param files the files to read
+     * @return an unmodifiable map of dotted file names to raw JSON contents
+     * @throws IOException if unable to read a file
+     */
+    private static Map<String, String> readFiles(Path localePath, List<Path> files) throws IOException {
+        Map<String, String> documents = new LinkedHashMap<>();
+        for (Path filePath : files) {
+            String dottedName = TranslationDocuments.toDottedName(localePath.relativize(filePath).toString());
+            documents.put(dottedName, Files.readString(filePath, StandardCharsets.UTF_8));
+        }
+        return Collections.unmodifiableMap(documents);
+    }
+
+    /**
+     * Compute a version tag from the names, sizes and modification times of the files.
+     *
+     * @param filesByLocale locale directory names to JSON files
+     * @return the version tag
+     * @throws IOException if unable to read file attributes
+     */
+    private String fingerprint(Map<String, List<Path>> filesByLocale) throws IOException {
+        List<String> parts = new ArrayList<>();
+        for (List<Path> files : filesByLocale.values()) {
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                parts.add(languagePath.relativize(file).toString().replace('\\', '/')
+                        + ':' + attributes.size()
+                        + ':' + attributes.lastModifiedTime().toMillis());
+            }
+        }
+        return TranslationDocuments.digest(parts);
+    }
+}
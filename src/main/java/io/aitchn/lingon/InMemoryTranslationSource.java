@@ -0,0 +1,87 @@
+package io.aitchn.lingon;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A mutable {@link TranslationSource} holding documents in memory.
+ * Useful for tests and for translations generated at runtime.
+ * Every modification bumps the version, so unchanged data is skipped on refresh.
+ */
+public final class InMemoryTranslationSource implements TranslationSource {
+    private final Map<String, Map<String, String>> documentsByLocale = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Add or replace a document.
+     *
+     * @param localeName the locale directory name (e.g., "en_US")
+     * @param dottedName the dotted file name (e.g., "command.help")
+     * @param json the raw JSON content
+     * @return this source
+     */
+    public InMemoryTranslationSource put(String localeName, String dottedName, String json) {
+        Objects.requireNonNull(localeName, "localeName cannot be null");
+        Objects.requireNonNull(dottedName, "dottedName cannot be null");
+        Objects.requireNonNull(json, "json cannot be null");
+
+        documentsByLocale.computeIfAbsent(localeName, key -> new ConcurrentHashMap<>()).put(dottedName, json);
+        version.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * Remove a document.
+     *
+     * @param localeName the locale directory name
+     * @param dottedName the dotted file name
+     * @return true if the document existed
+     */
+    public boolean remove(String localeName, String dottedName) {
+        Map<String, String> documents = documentsByLocale.get(localeName);
+        if (documents == null || documents.remove(dottedName) == null) {
+            return false;
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Remove all documents of a locale.
+     *
+     * @param localeName the locale directory name
+     * @return true if the locale existed
+     */
+    public boolean removeLocale(String localeName) {
+        if (documentsByLocale.remove(localeName) == null) {
+            return false;
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public TranslationSnapshot fetch(String knownVersion) {
+        String currentVersion = Long.toString(version.get());
+        if (currentVersion.equals(knownVersion)) {
+            return null;
+        }
+        return new TranslationSnapshot(currentVersion, documentsByLocale);
+    }
+
+    @Override
+    public Set<String> fetchLocaleNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(documentsByLocale.keySet()));
+    }
+
+    @Override
+    public Map<String, String> fetchLocale(String localeName) {
+        Map<String, String> documents = documentsByLocale.get(localeName);
+        return documents == null ? Map.of() : Map.copyOf(documents);
+    }
+}
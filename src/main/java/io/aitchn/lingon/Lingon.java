@@ -1,29 +1,49 @@
 package io.aitchn.lingon;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.MissingNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public final class Lingon {
     private static final Logger LOGGER = LoggerFactory.getLogger(Lingon.class);
-    private static final Pattern LOCALE_DIRECTORY_PATTERN = Pattern.compile("^[a-z]{2}_[A-Z]{2}$");
 
     private static volatile Lingon instance;
+    private static volatile CompletableFuture<Lingon> initialization;
     private static final Object LOCK = new Object();
+    private static final ThreadLocal<LingonLocale> CURRENT_LOCALE = new ThreadLocal<>();
 
     private final Path languagePath;
-    private final Map<String, Map<String, JsonNode>> rawTextsByLocale = new HashMap<>();
+    private final TranslationSource source;
+    private final Object refreshLock = new Object();
+    private final ScheduledExecutorService refreshExecutor =
+            Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("lingon-refresh"));
+    private final ExecutorService changeExecutor =
+            Executors.newSingleThreadExecutor(daemonThreadFactory("lingon-changes"));
+    private final List<LingonChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger localeGeneration = new AtomicInteger();
+    private final CompletableFuture<Lingon> fullyLoaded = new CompletableFuture<>();
+    private final Map<String, CompletableFuture<Boolean>> localeReadiness = new ConcurrentHashMap<>();
+    private volatile Thread stagingThread;
+    private volatile LingonCatalog catalog = LingonCatalog.EMPTY;
+    private volatile LocaleNegotiator negotiator;
     private volatile Locale defaultLocale;
 
     /**
@@ -34,17 +54,59 @@ public final class Lingon {
      * @param defaultLocale the default locale to use as fallback
      */
     private Lingon(Class<?> clazz, Path path, Locale defaultLocale) {
-        this.languagePath = path.resolve("languages");
-        if (languagePath.toFile().mkdirs()) {
-            LOGGER.info("Created {}", languagePath);
-        }
-
+        this.languagePath = createLanguagePath(path);
+        this.source = new FileSystemTranslationSource(languagePath);
         this.defaultLocale = defaultLocale;
         load();
         LingonResources.importFromOwner(clazz, languagePath);
+        fullyLoaded.complete(this);
         LOGGER.info("Lingon initialized default locale: {}", defaultLocale);
     }
 
+    /**
+     * Private constructor to prevent direct instantiation.
+     *
+     * @param source the source to load language data from
+     * @param defaultLocale the default locale to use as fallback
+     */
+    private Lingon(TranslationSource source, Locale defaultLocale) {
+        this.languagePath = (source instanceof FileSystemTranslationSource)
+                ? ((FileSystemTranslationSource) source).getLanguagePath()
+                : null;
+        this.source = source;
+        this.defaultLocale = defaultLocale;
+        load();
+        fullyLoaded.complete(this);
+        LOGGER.info("Lingon initialized default locale: {}", defaultLocale);
+    }
+
+    /**
+     * Private constructor for staged initialization. No data is loaded until {@link #loadStaged} runs.
+     *
+     * @param source the source to load language data from
+     * @param languagePath the language files directory, or null if the source is not the file system
+     * @param defaultLocale the default locale to use as fallback
+     */
+    private Lingon(TranslationSource source, Path languagePath, Locale defaultLocale) {
+        this.languagePath = languagePath;
+        this.source = source;
+        this.defaultLocale = defaultLocale;
+    }
+
+    /**
+     * Resolve the language files directory below a base path, creating it if needed.
+     *
+     * @param path the base path for language files
+     * @return the language path
+     */
+    private static Path createLanguagePath(Path path) {
+        Path languagePath = path.resolve("languages");
+        if (languagePath.toFile().mkdirs()) {
+            LOGGER.info("Created {}", languagePath);
+        }
+        return languagePath;
+    }
+
     /**
      * Get the singleton instance of Lingon. Creates the instance if it doesn't exist.
      *
@@ -56,7 +118,7 @@ public final class Lingon {
     public static Lingon getInstance(Class<?> clazz, Path path, Locale defaultLocale) {
         if (instance == null) {
             synchronized (LOCK) {
-                if (instance == null) {
+                if (instance == null && initialization == null) {
                     LOGGER.info("Creating new Lingon singleton instance");
                     instance = new Lingon(clazz, path, defaultLocale);
                 } else {
@@ -64,7 +126,123 @@ public final class Lingon {
                 }
             }
         }
-        return instance;
+        return awaitInstance();
+    }
+
+    /**
+     * Get the singleton instance of Lingon backed by a custom translation source.
+     * Creates the instance if it doesn't exist.
+     *
+     * @param source the source to load language data from
+     * @param defaultLocale the default locale to use as fallback
+     * @return the singleton Lingon instance
+     */
+    public static Lingon getInstance(TranslationSource source, Locale defaultLocale) {
+        Objects.requireNonNull(source, "source cannot be null");
+        if (instance == null) {
+            synchronized (LOCK) {
+                if (instance == null && initialization == null) {
+                    LOGGER.info("Creating new Lingon singleton instance from {}", source.getClass().getSimpleName());
+                    instance = new Lingon(source, defaultLocale);
+                } else {
+                    LOGGER.debug("Lingon instance already exists, returning existing instance");
+                }
+            }
+        }
+        return awaitInstance();
+    }
+
+    /**
+     * Initialize the singleton instance of Lingon in the background.
+     * Resources are imported and the default locale is loaded first; the returned future completes
+     * as soon as that is done, and the remaining locales keep loading in the background.
+     * Lookups for locales that are still loading fall back to the default locale.
+     * If the instance already exists or is being initialized, that instance is returned instead.
+     *
+     * @param clazz the class to import resources from
+     * @param path the base path for language files
+     * @param defaultLocale the default locale to use as fallback
+     * @return a future completing with the instance once the default locale is loaded,
+     *         or exceptionally if it could not be loaded
+     * @see #whenFullyLoaded()
+     * @see #whenLocaleReady(Locale)
+     */
+    public static CompletableFuture<Lingon> initializeAsync(Class<?> clazz, Path path, Locale defaultLocale) {
+        return startInitialization(() -> {
+            Path languagePath = createLanguagePath(path);
+            return new Lingon(new FileSystemTranslationSource(languagePath), languagePath, defaultLocale);
+        }, lingon -> LingonResources.importFromOwner(clazz, lingon.languagePath));
+    }
+
+    /**
+     * Initialize the singleton instance of Lingon backed by a custom translation source in the background,
+     * as with {@link #initializeAsync(Class, Path, Locale)}.
+     *
+     * @param source the source to load language data from
+     * @param defaultLocale the default locale to use as fallback
+     * @return a future completing with the instance once the default locale is loaded,
+     *         or exceptionally if it could not be loaded
+     */
+    public static CompletableFuture<Lingon> initializeAsync(TranslationSource source, Locale defaultLocale) {
+        Objects.requireNonNull(source, "source cannot be null");
+        return startInitialization(() -> new Lingon(source,
+                (source instanceof FileSystemTranslationSource)
+                        ? ((FileSystemTranslationSource) source).getLanguagePath()
+                        : null,
+                defaultLocale), lingon -> { });
+    }
+
+    /**
+     * Create an instance without data and start its staged load on its refresh executor.
+     * Only the cheap instance creation happens while holding the global lock.
+     *
+     * @param factory creates the instance
+     * @param preparation runs in the background before any data is loaded
+     * @return a future completing with the instance once the default locale is loaded
+     */
+    private static CompletableFuture<Lingon> startInitialization(Supplier<Lingon> factory, Consumer<Lingon> preparation) {
+        synchronized (LOCK) {
+            if (instance != null) {
+                LOGGER.debug("Lingon instance already exists, returning existing instance");
+                return CompletableFuture.completedFuture(instance);
+            }
+            if (initialization != null) {
+                LOGGER.debug("Lingon initialization already in progress");
+                return initialization.copy();
+            }
+
+            LOGGER.info("Creating new Lingon singleton instance in the background");
+            Lingon lingon = factory.get();
+            CompletableFuture<Lingon> ready = new CompletableFuture<>();
+            initialization = ready;
+            lingon.refreshExecutor.execute(() -> lingon.loadStaged(preparation, ready));
+            return ready.copy();
+        }
+    }
+
+    /**
+     * Get the singleton instance, waiting for a pending background initialization if there is one.
+     *
+     * @return the singleton Lingon instance
+     * @throws java.util.concurrent.CompletionException if the pending initialization failed
+     */
+    private static Lingon awaitInstance() {
+        Lingon current = instance;
+        if (current != null) {
+            return current;
+        }
+
+        CompletableFuture<Lingon> pending = initialization;
+        if (pending != null) {
+            return pending.join();
+        }
+
+        // The pending initialization finished between the two reads
+        current = instance;
+        if (current == null) {
+            throw new IllegalStateException("Lingon initialization failed");
+        }
+        return current;
     }
 
     /**
@@ -80,6 +258,22 @@ public final class Lingon {
         return instance;
     }
 
+    /**
+     * Discard the singleton instance and stop its background executors,
+     * so the next {@code getInstance} call creates a fresh instance. Used by tests.
+     */
+    static void resetInstance() {
+        synchronized (LOCK) {
+            Lingon current = instance;
+            instance = null;
+            initialization = null;
+            if (current != null) {
+                current.refreshExecutor.shutdownNow();
+                current.changeExecutor.shutdownNow();
+            }
+        }
+    }
+
     /**
      * Check if the Lingon instance has been initialized.
      *
@@ -90,122 +284,462 @@ public final class Lingon {
     }
 
     /**
-     * Load all locales and their corresponding raw text data.
+     * Load the language data in stages: the default locale first, after which the instance is published
+     * and {@code ready} completes, then every other locale one at a time.
+     * Sources reading one locale at a time are asked for each locale separately; sources that can only
+     * fetch everything are fetched once, and the locales are taken from that snapshot.
+     * Runs on the refresh executor, so refreshes requested in the meantime run after it.
+     *
+     * @param preparation runs before any data is loaded
+     * @param ready the future to complete once the default locale is loaded
      */
-    private void load() {
-        synchronized (rawTextsByLocale) {
-            List<String> localeNames = loadLocales();
-            for (String localeName : localeNames) {
-                rawTextsByLocale.put(localeName, loadRawText(localeName));
+    private void loadStaged(Consumer<Lingon> preparation, CompletableFuture<Lingon> ready) {
+        stagingThread = Thread.currentThread();
+        String defaultName = toDirectoryName(defaultLocale);
+        TranslationSource stagedSource;
+        try {
+            preparation.accept(this);
+            stagedSource = readsLocalesSeparately(source) ? source : snapshotSource(source.fetch(null));
+            if (!swapLocale(defaultName, stagedSource.fetchLocale(defaultName))) {
+                LOGGER.warn("No data found for default locale {}", defaultName);
             }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Failed to initialize Lingon from {}", describeSource(), e);
+            RuntimeException failure = (e instanceof IOException)
+                    ? new UncheckedIOException("Failed to load language data", (IOException) e)
+                    : (RuntimeException) e;
+            synchronized (LOCK) {
+                initialization = null;
+            }
+            refreshExecutor.shutdown();
+            changeExecutor.shutdown();
+            fullyLoaded.completeExceptionally(failure);
+            ready.completeExceptionally(failure);
+            return;
+        }
+
+        synchronized (LOCK) {
+            instance = this;
+            initialization = null;
+        }
+        markLocaleReady(defaultName);
+        LOGGER.info("Lingon ready with default locale: {}, loading remaining locales in the background", defaultLocale);
+        ready.complete(this);
+
+        try {
+            boolean complete = true;
+            for (String localeName : stagedSource.fetchLocaleNames()) {
+                if (localeName.equals(defaultName)) {
+                    continue;
+                }
+                try {
+                    swapLocale(localeName, stagedSource.fetchLocale(localeName));
+                } catch (IOException e) {
+                    complete = false;
+                    LOGGER.warn("Failed to load locale {}, falling back to {}", localeName, defaultLocale, e);
+                }
+                markLocaleReady(localeName);
+            }
+
+            // The catalog was assembled locale by locale and has no snapshot version,
+            // so the first refresh fetches everything once and picks up the version from there
+            if (complete) {
+                LOGGER.info("Language data loaded for {} locales", catalog.getLocales().size());
+            } else {
+                LOGGER.warn("Language data loaded for {} locales, some failed to load", catalog.getLocales().size());
+            }
+            finishStagedLoad(null);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to load remaining locales from {}, falling back to {}", describeSource(), defaultLocale, e);
+            finishStagedLoad((e instanceof IOException)
+                    ? new UncheckedIOException("Failed to load language data", (IOException) e)
+                    : (RuntimeException) e);
         }
     }
 
     /**
-     * Get a localized string for the specified locale and path.
+     * Check if a source overrides {@link TranslationSource#fetchLocale(String)}, so reading one locale
+     * does not cost a full fetch.
      *
-     * @param locale the locale to use for localization
-     * @param path the path to the localized string
-     * @return the localized string wrapper
+     * @param source the source to check
+     * @return true if the source reads locales separately
      */
-    public LingonLang get(Locale locale, String path) {
-        final String primaryKey = toDirectoryName(locale);
-        final String fallbackKey = toDirectoryName(defaultLocale);
+    private static boolean readsLocalesSeparately(TranslationSource source) {
+        try {
+            return source.getClass().getMethod("fetchLocale", String.class).getDeclaringClass() != TranslationSource.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
 
-        Map<String, JsonNode> primaryMap;
-        Map<String, JsonNode> fallbackMap;
+    /**
+     * Wrap a fetched snapshot as a source, so a staged load can read it one locale at a time.
+     *
+     * @param snapshot the snapshot, or null if the source returned none
+     * @return a source serving the snapshot
+     */
+    private static TranslationSource snapshotSource(TranslationSnapshot snapshot) {
+        TranslationSnapshot documents = (snapshot == null) ? new TranslationSnapshot(null, Map.of()) : snapshot;
+        return new TranslationSource() {
+            @Override
+            public TranslationSnapshot fetch(String knownVersion) {
+                return documents;
+            }
 
-        synchronized (rawTextsByLocale) {
-            primaryMap = rawTextsByLocale.getOrDefault(primaryKey, Collections.emptyMap());
-            fallbackMap = rawTextsByLocale.getOrDefault(fallbackKey, Collections.emptyMap());
-        }
+            @Override
+            public Set<String> fetchLocaleNames() {
+                return documents.getLocales();
+            }
 
-        JsonNode primaryNode = primaryMap.get(path);
-        JsonNode fallbackNode = fallbackMap.get(path);
+            @Override
+            public Map<String, String> fetchLocale(String localeName) {
+                return documents.getDocuments(localeName);
+            }
+        };
+    }
 
-        if (primaryNode == null && fallbackNode == null) {
-            LOGGER.warn("Missing file '{}' for locales primary={} fallback={}", path, primaryKey, fallbackKey);
-            return new LingonLang(
-                    primaryKey, MissingNode.getInstance(),
-                    fallbackKey, MissingNode.getInstance()
-            );
+    /**
+     * Complete the readiness future of a locale whose staged load finished.
+     * The completed future is kept, so callers asking for the locale afterwards see it as ready.
+     *
+     * @param localeName the locale directory name
+     */
+    private void markLocaleReady(String localeName) {
+        localeReadiness.computeIfAbsent(localeName, name -> new CompletableFuture<>())
+                .complete(catalog.hasLocale(localeName));
+    }
+
+    /**
+     * Complete the readiness futures of all locales once the staged load is over.
+     *
+     * @param failure the failure that ended the load early, or null if it completed
+     */
+    private void finishStagedLoad(RuntimeException failure) {
+        stagingThread = null;
+        if (failure == null) {
+            fullyLoaded.complete(this);
+        } else {
+            fullyLoaded.completeExceptionally(failure);
         }
 
-        return new LingonLang(primaryKey, primaryNode, fallbackKey, fallbackNode);
+        // Futures registered from here on are completed by whenLocaleReady itself, since fullyLoaded is done
+        for (Map.Entry<String, CompletableFuture<Boolean>> entry : localeReadiness.entrySet()) {
+            entry.getValue().complete(catalog.hasLocale(entry.getKey()));
+        }
+        localeReadiness.clear();
     }
 
     /**
-     * Load all available locale directory names from the language path.
+     * Run a reload after the staged load, so locales it has fetched but not swapped in yet cannot
+     * overwrite the reloaded data. While the staged load is running, the action is queued behind it
+     * on the refresh executor and the caller waits; on the staging thread itself, nothing is in flight
+     * and the action runs directly.
      *
-     * @return a list of locale directory names
-     * @throws UncheckedIOException if unable to read the directory
+     * @param action the reload to run
+     * @param <T> the result type
+     * @return the result of the action
      */
-    private List<String> loadLocales() {
-        if (!Files.isDirectory(languagePath)) {
-            return List.of();
+    private <T> T afterStagedLoad(Supplier<T> action) {
+        if (fullyLoaded.isDone() || Thread.currentThread() == stagingThread) {
+            return action.get();
         }
 
-        List<String> localeNames = new ArrayList<>();
-        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(languagePath)) {
-            for (Path path : directoryStream) {
-                String fileName = path.getFileName().toString();
-                if (Files.isDirectory(path) && LOCALE_DIRECTORY_PATTERN.matcher(fileName).matches()) {
-                    localeNames.add(fileName);
-                }
+        try {
+            return CompletableFuture.supplyAsync(action, refreshExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
+        }
+    }
+
+    /**
+     * Load all locales and their corresponding raw text data.
+     *
+     * @throws UncheckedIOException if unable to read the source
+     */
+    private void load() {
+        try {
+            refresh(true);
         } catch (IOException e) {
-            throw new UncheckedIOException("Failed to list locales in " + languagePath, e);
+            throw new UncheckedIOException("Failed to load language data", e);
         }
-        return localeNames;
     }
 
     /**
-     * Load raw text data from JSON files for a specific locale.
+     * Fetch the source and swap in a new catalog if the data changed.
+     * The current catalog is only replaced once the new data has been fetched and parsed,
+     * so lookups keep using the last good catalog if anything fails.
      *
-     * @param localeName the locale directory name to load from
-     * @return an unmodifiable map of dotted paths to JSON nodes
-     * @throws UncheckedIOException if unable to read files
+     * @param force true to fetch all data even if the source reports it as unchanged
+     * @return true if a new catalog was swapped in
+     * @throws IOException if unable to read or parse the source
      */
-    private Map<String, JsonNode> loadRawText(String localeName) {
-        Path localePath = languagePath.resolve(localeName);
-        if (!Files.isDirectory(localePath)) {
-            return Map.of();
+    private boolean refresh(boolean force) throws IOException {
+        synchronized (refreshLock) {
+            LingonCatalog previous = catalog;
+            TranslationSnapshot snapshot = source.fetch(force ? null : previous.getVersion());
+            if (snapshot == null) {
+                LOGGER.debug("Language data unchanged at version {}", previous.getVersion());
+                return false;
+            }
+
+            Map<String, LingonCatalog.LocaleData> dataByLocale = new LinkedHashMap<>();
+            for (String localeName : snapshot.getLocales()) {
+                dataByLocale.put(localeName, parseDocuments(localeName, snapshot.getDocuments(localeName), previous));
+            }
+
+            swapCatalog(previous, new LingonCatalog(snapshot.getVersion(), dataByLocale));
+            return true;
         }
+    }
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        Map<String, JsonNode> textData = new LinkedHashMap<>();
+    /**
+     * Parse the raw JSON documents of a locale and build the prefix indexes over them.
+     * Documents whose contents digest matches the previous catalog reuse the previously parsed values
+     * and indexes, and if no document of the locale changed, the previous locale data itself is returned.
+     *
+     * @param localeName the locale directory name the documents belong to
+     * @param documents the dotted file names to raw JSON contents
+     * @param previous the catalog to reuse unchanged documents from
+     * @return the locale data
+     * @throws IOException if a document is not valid JSON
+     */
+    private static LingonCatalog.LocaleData parseDocuments(String localeName, Map<String, String> documents,
+                                                           LingonCatalog previous) throws IOException {
+        LingonCatalog.LocaleData previousData = previous.getData(localeName);
+        Map<String, Object> previousTexts = previousData.getTexts();
+        Map<String, String> previousDigests = previousData.getDigests();
+        boolean unchanged = documents.size() == previousDigests.size();
 
-        try (Stream<Path> pathStream = Files.walk(localePath)) {
-            pathStream.filter(Files::isRegularFile)
-                    .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json"))
-                    .forEach(filePath -> {
-                        String dottedName = toDottedName(localePath.relativize(filePath));
-                        try (var reader = Files.newBufferedReader(filePath, java.nio.charset.StandardCharsets.UTF_8)) {
-                            JsonNode node = objectMapper.readTree(reader);
-                            textData.put(dottedName, node);
-                        } catch (IOException e) {
-                            throw new UncheckedIOException("Failed to read " + filePath, e);
-                        }
-                    });
-        } catch (IOException e) {
-            throw new UncheckedIOException("Failed to walk " + localePath, e);
+        Map<String, Object> textData = new LinkedHashMap<>();
+        Map<String, String> digests = new LinkedHashMap<>();
+        Map<String, LingonPrefixIndex> keyIndexes = new LinkedHashMap<>();
+        for (Map.Entry<String, String> document : documents.entrySet()) {
+            String file = document.getKey();
+            String digest = TranslationDocuments.digest(List.of(document.getValue()));
+            digests.put(file, digest);
+            boolean sameContents = digest.equals(previousDigests.get(file));
+            if (!sameContents) {
+                unchanged = false;
+            }
+
+            // Empty placeholder files are kept out of the texts, so lookups fall back as for a missing file
+            if (LingonJson.isBlank(document.getValue())) {
+                if (!sameContents) {
+                    LOGGER.debug("Skipping empty file {}/{}", localeName, file);
+                }
+                continue;
+            }
+
+            if (sameContents) {
+                textData.put(file, previousTexts.get(file));
+                keyIndexes.put(file, previousData.getKeyIndex(file));
+                continue;
+            }
+
+            Object parsed;
+            try {
+                parsed = LingonJson.parse(document.getValue());
+            } catch (IOException e) {
+                throw new IOException("Failed to parse " + localeName + "/" + file, e);
+            }
+            textData.put(file, parsed);
+            keyIndexes.put(file, LingonPrefixIndex.ofLeaves(parsed));
         }
 
-        return Collections.unmodifiableMap(textData);
+        if (unchanged) {
+            return previousData;
+        }
+        return new LingonCatalog.LocaleData(textData, digests, keyIndexes);
     }
 
     /**
-     * Convert a relative file path to a dotted name format.
+     * Replace the current catalog. Must be called while holding the refresh lock.
      *
-     * @param relativePath the relative path to convert
-     * @return the dotted name (e.g., "command/help.json" -> "command.help")
+     * @param previous the catalog being replaced
+     * @param next the new catalog
      */
-    private static String toDottedName(Path relativePath) {
-        String name = relativePath.toString().replace('\\', '/');
-        if (name.toLowerCase(Locale.ROOT).endsWith(".json")) {
-            name = name.substring(0, name.length() - 5);
+    private void swapCatalog(LingonCatalog previous, LingonCatalog next) {
+        catalog = next;
+        if (!previous.getLocales().equals(next.getLocales())) {
+            localeGeneration.incrementAndGet();
         }
-        return name.replace('/', '.');
+        publishChanges(previous, next);
+    }
+
+    /**
+     * Compute the changes between two catalogs and deliver them to the change listeners.
+     * Both steps run on the change executor, so the thread swapping in the catalog is not delayed.
+     *
+     * @param previous the catalog before the reload
+     * @param next the catalog after the reload
+     */
+    private void publishChanges(LingonCatalog previous, LingonCatalog next) {
+        if (changeListeners.isEmpty() || previous == next) {
+            return;
+        }
+
+        String defaultName = toDirectoryName(defaultLocale);
+        publishEvent(() -> new LingonChangeEvent(LingonDiff.diff(previous, next, defaultName), false));
+    }
+
+    /**
+     * Compute an event and deliver it to the change listeners on the change executor.
+     * Events without changes are dropped, unless they report a change of the default locale.
+     *
+     * @param eventSupplier computes the event
+     */
+    private void publishEvent(Supplier<LingonChangeEvent> eventSupplier) {
+        changeExecutor.execute(() -> {
+            LingonChangeEvent event = eventSupplier.get();
+            if (event.getChanges().isEmpty() && !event.isDefaultLocaleChanged()) {
+                return;
+            }
+
+            LOGGER.debug("Publishing {} language data changes", event.getChanges().size());
+            for (LingonChangeListener listener : changeListeners) {
+                try {
+                    listener.onChange(event);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Change listener {} failed", listener, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Register a listener notified with the changed values whenever new language data is loaded,
+     * by {@link #reload()}, {@link #reloadLocale(Locale)} or a background refresh,
+     * and whenever {@link #setDefaultLocale(Locale)} changes the default locale.
+     *
+     * @param listener the listener to add
+     */
+    public void addChangeListener(LingonChangeListener listener) {
+        changeListeners.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    /**
+     * Unregister a change listener.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeChangeListener(LingonChangeListener listener) {
+        return changeListeners.remove(listener);
+    }
+
+    /**
+     * Get a localized string for the specified locale and path.
+     *
+     * @param locale the locale to use for localization
+     * @param path the path to the localized string
+     * @return the localized string wrapper
+     */
+    public LingonLang get(Locale locale, String path) {
+        return forLocale(locale).get(path);
+    }
+
+    /**
+     * Get the dotted file names under a namespace for the specified locale, including fallback files.
+     *
+     * @param locale the locale to use for localization
+     * @param namespace the file namespace (e.g., "command"), or an empty string for all files
+     * @return an unmodifiable sorted list of dotted file names
+     * @see LingonLocale#getFiles(String)
+     */
+    public List<String> getFiles(Locale locale, String namespace) {
+        return forLocale(locale).getFiles(namespace);
+    }
+
+    /**
+     * Resolve every key of every file under a namespace for the specified locale, with fallback.
+     *
+     * @param locale the locale to use for localization
+     * @param namespace the file namespace (e.g., "command"), or an empty string for all files
+     * @return an unmodifiable map of dotted file names to maps of key paths to values
+     * @see LingonLocale#getAll(String)
+     */
+    public Map<String, Map<String, String>> getAll(Locale locale, String namespace) {
+        return forLocale(locale).getAll(namespace);
+    }
+
+    /**
+     * Get a view of the loaded data resolved for the specified locale.
+     * The view keeps the primary and fallback locale data, so lookups made through it
+     * skip the locale resolution done by {@link #get(Locale, String)}.
+     * A view requested while its locale is still loading falls back to the default locale data.
+     *
+     * @param locale the locale to resolve
+     * @return the per-locale view
+     */
+    public LingonLocale forLocale(Locale locale) {
+        final String primaryKey = toDirectoryName(locale);
+        final String fallbackKey = toDirectoryName(defaultLocale);
+        final LingonCatalog current = catalog;
+
+        return new LingonLocale(locale,
+                primaryKey, current.getData(primaryKey),
+                fallbackKey, current.getData(fallbackKey));
+    }
+
+    /**
+     * Run an action with the specified locale bound as the current locale.
+     * The binding is only visible to the calling thread, is not inherited by threads
+     * started from the action, and is removed when the action completes.
+     *
+     * @param locale the locale to bind
+     * @param action the action to run
+     */
+    public void runWithLocale(Locale locale, Runnable action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        withLocale(locale, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Call an action with the specified locale bound as the current locale.
+     * The binding is only visible to the calling thread, is not inherited by threads
+     * started from the action, and is removed when the action completes.
+     *
+     * @param locale the locale to bind
+     * @param action the action to call
+     * @param <T> the result type
+     * @return the result of the action
+     */
+    public <T> T withLocale(Locale locale, Supplier<T> action) {
+        Objects.requireNonNull(action, "action cannot be null");
+        LingonLocale previous = CURRENT_LOCALE.get();
+        CURRENT_LOCALE.set(forLocale(locale));
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_LOCALE.remove();
+            } else {
+                CURRENT_LOCALE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Get the locale view bound by {@link #runWithLocale(Locale, Runnable)} or
+     * {@link #withLocale(Locale, Supplier)} on the calling thread.
+     * When no locale is bound, a view for the default locale is returned.
+     *
+     * @return the current locale view
+     * @throws IllegalStateException if the instance has not been initialized yet
+     */
+    public static LingonLocale current() {
+        LingonLocale current = CURRENT_LOCALE.get();
+        if (current != null) {
+            return current;
+        }
+        Lingon lingon = getInstance();
+        return lingon.forLocale(lingon.getDefaultLocale());
     }
 
     /**
@@ -214,7 +748,7 @@ public final class Lingon {
      * @param locale the locale to convert
      * @return the directory name (e.g., "en_US") or null if locale is null
      */
-    private static String toDirectoryName(Locale locale) {
+    static String toDirectoryName(Locale locale) {
         if (locale == null) {
             return null;
         }
@@ -224,36 +758,128 @@ public final class Lingon {
         return country.isEmpty() ? language : (language + "_" + country);
     }
 
+    /**
+     * Pick the loaded locale best matching an HTTP {@code Accept-Language} header.
+     * Language ranges are tried in order of their quality values; a range matches a loaded locale
+     * with the same language and country, or else any loaded locale with the same language.
+     * Results are cached per header value until the loaded locales or the default locale change.
+     *
+     * @param acceptLanguage the header value (e.g., "zh-TW,zh;q=0.9,en;q=0.8"), may be null
+     * @return the negotiated locale, or the default locale if no range matches
+     */
+    public Locale negotiateLocale(String acceptLanguage) {
+        int generation = localeGeneration.get();
+        LocaleNegotiator current = negotiator;
+        if (current == null || current.getGeneration() != generation) {
+            current = new LocaleNegotiator(generation, catalog.getLocales(), defaultLocale);
+            negotiator = current;
+        }
+        return current.negotiate(acceptLanguage);
+    }
+
     /**
      * Set the default locale for fallback purposes.
+     * Change listeners receive an event reporting the values rendered differently through the fallback.
      *
      * @param defaultLocale the default locale to set
      */
     public void setDefaultLocale(Locale defaultLocale) {
+        Locale previousDefault = this.defaultLocale;
         this.defaultLocale = defaultLocale;
+        localeGeneration.incrementAndGet();
         LOGGER.info("Default locale updated to: {}", defaultLocale);
+
+        String previousName = toDirectoryName(previousDefault);
+        String nextName = toDirectoryName(defaultLocale);
+        if (!changeListeners.isEmpty() && !Objects.equals(previousName, nextName)) {
+            LingonCatalog current = catalog;
+            publishEvent(() -> new LingonChangeEvent(
+                    LingonDiff.diffDefaultLocale(current, previousName, nextName), true));
+        }
     }
 
     /**
-     * Reload all locale data from the file system.
-     * This method clears the existing rawTextsByLocale cache and reloads all language files.
+     * Reload all locale data from the translation source.
+     * This method fetches all language files again and replaces the loaded data once they are parsed.
      * Useful when language files have been modified at runtime.
+     * While a staged initialization is still loading locales, the reload waits for it to finish.
+     *
+     * @throws UncheckedIOException if unable to read the source; the previously loaded data is kept
      */
     public void reload() {
-        synchronized (rawTextsByLocale) {
-            LOGGER.info("Reloading language data from {}", languagePath);
-            rawTextsByLocale.clear();
+        afterStagedLoad(() -> {
+            LOGGER.info("Reloading language data from {}", describeSource());
             load();
-            LOGGER.info("Language data reloaded successfully for {} locales", rawTextsByLocale.size());
+            LOGGER.info("Language data reloaded successfully for {} locales", catalog.getLocales().size());
+            return null;
+        });
+    }
+
+    /**
+     * Refresh the language data in the background.
+     * The source is asked to skip the fetch if its data still matches the loaded version.
+     * Lookups are never blocked, and the previously loaded data keeps being served if the refresh fails.
+     *
+     * @return a future completing with true if new data was loaded, or exceptionally if the refresh failed
+     */
+    public CompletableFuture<Boolean> refreshAsync() {
+        return CompletableFuture.supplyAsync(this::refreshInBackground, refreshExecutor);
+    }
+
+    /**
+     * Refresh the language data in the background periodically, as with {@link #refreshAsync()}.
+     * Failed refreshes are logged and retried at the next interval.
+     *
+     * @param interval the delay between the end of one refresh and the start of the next
+     * @return a future that can be used to cancel the periodic refresh
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public ScheduledFuture<?> scheduleRefresh(Duration interval) {
+        long delayMillis = Objects.requireNonNull(interval, "interval cannot be null").toMillis();
+        if (delayMillis <= 0) {
+            throw new IllegalArgumentException("Refresh interval must be positive: " + interval);
+        }
+
+        return refreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refreshInBackground();
+            } catch (RuntimeException ignored) {
+                // Already logged, keep the schedule running
+            }
+        }, delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run a refresh on the refresh executor, logging its outcome.
+     *
+     * @return true if new data was loaded
+     * @throws UncheckedIOException if the refresh failed
+     */
+    private boolean refreshInBackground() {
+        try {
+            boolean changed = refresh(false);
+            if (changed) {
+                LOGGER.info("Language data refreshed to version {} for {} locales",
+                        catalog.getVersion(), catalog.getLocales().size());
+            }
+            return changed;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to refresh language data from {}, keeping the last loaded data", describeSource(), e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to refresh language data from {}, keeping the last loaded data", describeSource(), e);
+            throw e;
         }
     }
 
     /**
      * Reload data for a specific locale only.
      * This method updates only the specified locale's data without affecting other locales.
+     * While a staged initialization is still loading locales, the reload waits for it to finish.
      *
      * @param locale the locale to reload
      * @return true if the locale was successfully reloaded, false if no data was found
+     * @throws UncheckedIOException if unable to read the source
      */
     public boolean reloadLocale(Locale locale) {
         if (locale == null) {
@@ -266,32 +892,69 @@ public final class Lingon {
             LOGGER.warn("Cannot convert locale {} to directory name", locale);
             return false;
         }
+        return afterStagedLoad(() -> reloadLocaleData(localeName));
+    }
 
-        synchronized (rawTextsByLocale) {
+    /**
+     * Fetch the documents of a locale and swap them into the current catalog.
+     *
+     * @param localeName the locale directory name
+     * @return true if the locale was successfully reloaded, false if no data was found
+     * @throws UncheckedIOException if unable to read the source
+     */
+    private boolean reloadLocaleData(String localeName) {
+        synchronized (refreshLock) {
             LOGGER.debug("Reloading locale data for {}", localeName);
-            Map<String, JsonNode> localeData = loadRawText(localeName);
+            boolean found;
+            try {
+                found = swapLocale(localeName, source.fetchLocale(localeName));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to reload locale " + localeName, e);
+            }
 
-            if (localeData.isEmpty()) {
+            if (!found) {
                 LOGGER.warn("No data found for locale {}", localeName);
-                rawTextsByLocale.remove(localeName);
                 return false;
             }
-
-            rawTextsByLocale.put(localeName, localeData);
             LOGGER.info("Successfully reloaded locale {}", localeName);
             return true;
         }
     }
 
+    /**
+     * Parse the documents of a single locale and swap them into the current catalog.
+     * A locale without documents is removed from the catalog.
+     *
+     * @param localeName the locale directory name
+     * @param documents the dotted file names to raw JSON contents
+     * @return true if the locale has data
+     * @throws IOException if a document is not valid JSON
+     */
+    private boolean swapLocale(String localeName, Map<String, String> documents) throws IOException {
+        synchronized (refreshLock) {
+            LingonCatalog previous = catalog;
+            LingonCatalog.LocaleData localeData = parseDocuments(localeName, documents, previous);
+            if (localeData.isEmpty()) {
+                if (previous.hasLocale(localeName)) {
+                    swapCatalog(previous, previous.withoutLocale(localeName));
+                }
+                return false;
+            }
+
+            if (localeData != previous.getData(localeName)) {
+                swapCatalog(previous, previous.withLocale(localeName, localeData));
+            }
+            return true;
+        }
+    }
+
     /**
      * Get all currently loaded locale names.
      *
      * @return an unmodifiable set of loaded locale names
      */
     public Set<String> getLoadedLocales() {
-        synchronized (rawTextsByLocale) {
-            return Collections.unmodifiableSet(new HashSet<>(rawTextsByLocale.keySet()));
-        }
+        return catalog.getLocales();
     }
 
     /**
@@ -304,14 +967,64 @@ public final class Lingon {
         if (locale == null) {
             return false;
         }
+        return catalog.hasLocale(toDirectoryName(locale));
+    }
+
+    /**
+     * Check if a locale is ready for lookups: its data is loaded, or loading has finished without data for it,
+     * in which case lookups fall back to the default locale.
+     * Only instances created by {@code initializeAsync} have locales that are not ready yet.
+     *
+     * @param locale the locale to check
+     * @return true if the locale is ready, false otherwise
+     */
+    public boolean isLocaleReady(Locale locale) {
         String localeName = toDirectoryName(locale);
         if (localeName == null) {
             return false;
         }
 
-        synchronized (rawTextsByLocale) {
-            return rawTextsByLocale.containsKey(localeName);
+        CompletableFuture<Boolean> readiness = localeReadiness.get(localeName);
+        return catalog.hasLocale(localeName) || fullyLoaded.isDone() || (readiness != null && readiness.isDone());
+    }
+
+    /**
+     * Get a future completing once a locale is ready, as defined by {@link #isLocaleReady(Locale)}.
+     *
+     * @param locale the locale to wait for
+     * @return a future completing with true if the locale has data, or false if lookups fall back to the default locale
+     */
+    public CompletableFuture<Boolean> whenLocaleReady(Locale locale) {
+        String localeName = toDirectoryName(locale);
+        if (localeName == null || catalog.hasLocale(localeName) || fullyLoaded.isDone()) {
+            return CompletableFuture.completedFuture(localeName != null && catalog.hasLocale(localeName));
+        }
+
+        CompletableFuture<Boolean> readiness = localeReadiness.computeIfAbsent(localeName, name -> new CompletableFuture<>());
+        // The staged load may have finished between the check above and registering the future
+        if (fullyLoaded.isDone()) {
+            readiness.complete(catalog.hasLocale(localeName));
         }
+        return readiness.copy();
+    }
+
+    /**
+     * Check if every locale has finished loading.
+     *
+     * @return true if loading has finished, false while a staged initialization is still loading locales
+     */
+    public boolean isFullyLoaded() {
+        return fullyLoaded.isDone();
+    }
+
+    /**
+     * Get a future completing once every locale has finished loading.
+     *
+     * @return a future completing with this instance, or exceptionally if the remaining locales could not be fetched;
+     *         the locales loaded before the failure stay available
+     */
+    public CompletableFuture<Lingon> whenFullyLoaded() {
+        return fullyLoaded.copy();
     }
 
     /**
@@ -326,12 +1039,45 @@ public final class Lingon {
     /**
      * Get the language files directory path.
      *
-     * @return the language path
+     * @return the language path, or null if the data comes from a source other than the file system
      */
     public Path getLanguagePath() {
         return languagePath;
     }
 
+    /**
+     * Get the translation source the language data is loaded from.
+     *
+     * @return the translation source
+     */
+    public TranslationSource getSource() {
+        return source;
+    }
+
+    /**
+     * Describe the translation source for log messages.
+     *
+     * @return the language path, or the source class name
+     */
+    private Object describeSource() {
+        return languagePath != null ? languagePath : source.getClass().getSimpleName();
+    }
+
+    /**
+     * Create a thread factory for the background executors.
+     * Daemon threads are used so that Lingon never keeps the application alive.
+     *
+     * @param name the thread name
+     * @return the thread factory
+     */
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     /**
      * Get the logger instance for this class.
      *
@@ -340,4 +1086,4 @@ public final class Lingon {
     public Logger getLogger() {
         return LOGGER;
     }
-}
\ No newline at end of file
+}
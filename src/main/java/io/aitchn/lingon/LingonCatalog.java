@@ -0,0 +1,198 @@
+package io.aitchn.lingon;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of all loaded language data.
+ * {@link Lingon} swaps whole catalogs on reload, so lookups never need to lock.
+ */
+final class LingonCatalog {
+    static final LingonCatalog EMPTY = new LingonCatalog(null, Map.of());
+
+    private final String version;
+    private final Map<String, LocaleData> dataByLocale;
+
+    /**
+     * Creates a new catalog.
+     *
+     * @param version the version of the source snapshot, or null if unknown
+     * @param dataByLocale locale directory names to their data
+     */
+    LingonCatalog(String version, Map<String, LocaleData> dataByLocale) {
+        this.version = version;
+        this.dataByLocale = Collections.unmodifiableMap(new LinkedHashMap<>(dataByLocale));
+    }
+
+    /**
+     * Get the version of the source snapshot this catalog was built from.
+     *
+     * @return the version, or null if unknown
+     */
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the data of a locale.
+     *
+     * @param localeName the locale directory name
+     * @return the locale data, or {@link LocaleData#EMPTY} if the locale is not loaded
+     */
+    LocaleData getData(String localeName) {
+        if (localeName == null) {
+            return LocaleData.EMPTY;
+        }
+        return dataByLocale.getOrDefault(localeName, LocaleData.EMPTY);
+    }
+
+    /**
+     * Get the parsed documents of a locale.
+     *
+     * @param localeName the locale directory name
+     * @return an unmodifiable map of dotted file names to parsed documents, empty if the locale is not loaded
+     */
+    Map<String, Object> getTexts(String localeName) {
+        return getData(localeName).getTexts();
+    }
+
+    /**
+     * Get all loaded locale names.
+     *
+     * @return an unmodifiable set of locale directory names
+     */
+    Set<String> getLocales() {
+        return dataByLocale.keySet();
+    }
+
+    /**
+     * Check if a locale is loaded.
+     *
+     * @param localeName the locale directory name
+     * @return true if the locale is loaded
+     */
+    boolean hasLocale(String localeName) {
+        return localeName != null && dataByLocale.containsKey(localeName);
+    }
+
+    /**
+     * Create a copy of this catalog with the data of one locale replaced.
+     * The copy has no version, since it no longer matches a whole source snapshot.
+     *
+     * @param localeName the locale directory name
+     * @param data the data of the locale
+     * @return the new catalog
+     */
+    LingonCatalog withLocale(String localeName, LocaleData data) {
+        Map<String, LocaleData> copy = new LinkedHashMap<>(dataByLocale);
+        copy.put(localeName, data);
+        return new LingonCatalog(null, copy);
+    }
+
+    /**
+     * Create a copy of this catalog without the data of one locale.
+     * The copy has no version, since it no longer matches a whole source snapshot.
+     *
+     * @param localeName the locale directory name
+     * @return the new catalog
+     */
+    LingonCatalog withoutLocale(String localeName) {
+        Map<String, LocaleData> copy = new LinkedHashMap<>(dataByLocale);
+        copy.remove(localeName);
+        return new LingonCatalog(null, copy);
+    }
+
+    /**
+     * The loaded data of one locale: the parsed documents, digests of the raw JSON they were parsed from,
+     * and the prefix indexes built over them.
+     */
+    static final class LocaleData {
+        static final LocaleData EMPTY = new LocaleData(Map.of(), Map.of(), Map.of());
+
+        private final Map<String, Object> texts;
+        private final Map<String, String> digests;
+        private final Map<String, LingonPrefixIndex> keyIndexes;
+        private final LingonPrefixIndex fileIndex;
+        // Jackson views of the documents, typed as Object so this class does not depend on Jackson
+        private final Map<String, Object> jsonNodes = new ConcurrentHashMap<>();
+
+        /**
+         * Creates new locale data.
+         *
+         * @param texts the dotted file names to parsed documents
+         * @param digests the dotted file names to digests of the raw JSON the documents were parsed from
+         * @param keyIndexes the dotted file names to the leaf key index of each document
+         */
+        LocaleData(Map<String, Object> texts, Map<String, String> digests, Map<String, LingonPrefixIndex> keyIndexes) {
+            this.texts = Collections.unmodifiableMap(texts);
+            this.digests = Collections.unmodifiableMap(digests);
+            this.keyIndexes = Collections.unmodifiableMap(keyIndexes);
+            this.fileIndex = LingonPrefixIndex.ofNames(texts.keySet());
+        }
+
+        /**
+         * Get the parsed documents.
+         *
+         * @return an unmodifiable map of dotted file names to parsed documents
+         */
+        Map<String, Object> getTexts() {
+            return texts;
+        }
+
+        /**
+         * Get the digests of the raw JSON contents, used to detect unchanged documents on reload
+         * without keeping the contents themselves.
+         *
+         * @return an unmodifiable map of dotted file names to SHA-256 digests of the raw JSON contents
+         */
+        Map<String, String> getDigests() {
+            return digests;
+        }
+
+        /**
+         * Get the leaf key index of a document.
+         *
+         * @param file the dotted file name
+         * @return the key index, or {@link LingonPrefixIndex#EMPTY} if the file does not exist
+         */
+        LingonPrefixIndex getKeyIndex(String file) {
+            return keyIndexes.getOrDefault(file, LingonPrefixIndex.EMPTY);
+        }
+
+        /**
+         * Get the Jackson view of a document, converting it on first use and sharing it afterwards.
+         * Requires Jackson on the classpath.
+         *
+         * @param file the dotted file name
+         * @return the {@code JsonNode} of the document, or a missing node if the file does not exist
+         */
+        Object getJsonNode(String file) {
+            Object document = texts.get(file);
+            if (document == null) {
+                return LingonJackson.toJsonNode(null);
+            }
+            return jsonNodes.computeIfAbsent(file, key -> LingonJackson.toJsonNode(document));
+        }
+
+        /**
+         * Get the index of the dotted file names.
+         *
+         * @return the file index
+         */
+        LingonPrefixIndex getFileIndex() {
+            return fileIndex;
+        }
+
+        /**
+         * Check if this locale has no documents, not even empty ones.
+         *
+         * @return true if there are no documents
+         */
+        boolean isEmpty() {
+            return digests.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.aitchn.lingon;
+
+import java.util.Objects;
+
+/**
+ * A single changed value between two versions of the loaded language data.
+ * Changes are reported per leaf value, identified by locale, dotted file name and key path.
+ */
+public final class LingonChange {
+
+    /**
+     * The kind of change.
+     */
+    public enum Type {
+        /** The value did not exist before. */
+        ADDED,
+        /** The value no longer exists. */
+        REMOVED,
+        /** The value exists in both versions with different contents. */
+        MODIFIED
+    }
+
+    private final Type type;
+    private final String locale;
+    private final String file;
+    private final String key;
+
+    /**
+     * Creates a new change.
+     *
+     * @param type the kind of change
+     * @param locale the locale directory name (e.g., "en_US")
+     * @param file the dotted file name (e.g., "command.help")
+     * @param key the key path inside the file (e.g., "main.title" or "items[1]"), empty for a scalar file root
+     */
+    LingonChange(Type type, String locale, String file, String key) {
+        this.type = type;
+        this.locale = locale;
+        this.file = file;
+        this.key = key;
+    }
+
+    /**
+     * Get the kind of change.
+     *
+     * @return the change type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Get the locale directory name of the changed value.
+     *
+     * @return the locale directory name
+     */
+    public String getLocale() {
+        return locale;
+    }
+
+    /**
+     * Get the dotted file name of the changed value.
+     *
+     * @return the dotted file name
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Get the key path of the changed value, in the format accepted by {@link LingonLang#get(String)}.
+     *
+     * @return the key path
+     */
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof LingonChange)) {
+            return false;
+        }
+        LingonChange change = (LingonChange) other;
+        return type == change.type
+                && locale.equals(change.locale)
+                && file.equals(change.file)
+                && key.equals(change.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, locale, file, key);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + locale + "/" + file + (key.isEmpty() ? "" : ":" + key);
+    }
+}
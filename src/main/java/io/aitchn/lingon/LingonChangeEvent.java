@@ -0,0 +1,100 @@
+package io.aitchn.lingon;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The set of values that changed in one reload of the language data, or by a change of the default locale.
+ *
+ * <p>Changes are reported per loaded locale as lookups through that locale render them: a changed value of
+ * the default locale is also reported for every other loaded locale that has no value of its own at that key.
+ * Locales that are not loaded render the default locale entirely, so a change of the default locale applies
+ * to them as well.</p>
+ */
+public final class LingonChangeEvent {
+    private final List<LingonChange> changes;
+    private final boolean defaultLocaleChanged;
+
+    /**
+     * Creates a new event.
+     *
+     * @param changes the changed values
+     * @param defaultLocaleChanged whether the event was caused by a change of the default locale
+     */
+    LingonChangeEvent(List<LingonChange> changes, boolean defaultLocaleChanged) {
+        this.changes = Collections.unmodifiableList(changes);
+        this.defaultLocaleChanged = defaultLocaleChanged;
+    }
+
+    /**
+     * Check if this event was caused by {@link Lingon#setDefaultLocale(java.util.Locale)}.
+     * Every lookup that falls back to the default locale, including lookups for locales that are not loaded,
+     * may render a different value afterwards, even if {@link #getChanges()} is empty.
+     *
+     * @return true if the default locale changed
+     */
+    public boolean isDefaultLocaleChanged() {
+        return defaultLocaleChanged;
+    }
+
+    /**
+     * Get all changed values.
+     *
+     * @return an unmodifiable list of changes, grouped by locale and file
+     */
+    public List<LingonChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Get the locales with at least one changed value.
+     *
+     * @return an unmodifiable set of locale directory names
+     */
+    public Set<String> getLocales() {
+        Set<String> locales = new LinkedHashSet<>();
+        for (LingonChange change : changes) {
+            locales.add(change.getLocale());
+        }
+        return Collections.unmodifiableSet(locales);
+    }
+
+    /**
+     * Get the files of a locale with at least one changed value.
+     *
+     * @param locale the locale directory name
+     * @return an unmodifiable set of dotted file names
+     */
+    public Set<String> getFiles(String locale) {
+        Set<String> files = new LinkedHashSet<>();
+        for (LingonChange change : changes) {
+            if (change.getLocale().equals(locale)) {
+                files.add(change.getFile());
+            }
+        }
+        return Collections.unmodifiableSet(files);
+    }
+
+    /**
+     * Check if any value of a file changed.
+     *
+     * @param locale the locale directory name
+     * @param file the dotted file name
+     * @return true if the file has at least one changed value
+     */
+    public boolean affects(String locale, String file) {
+        for (LingonChange change : changes) {
+            if (change.getLocale().equals(locale) && change.getFile().equals(file)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "LingonChangeEvent" + (defaultLocaleChanged ? "[default locale changed]" : "") + changes;
+    }
+}
@@ -0,0 +1,20 @@
+package io.aitchn.lingon;
+
+/**
+ * Receives the values that changed when {@link Lingon} loads new language data or its default locale changes.
+ * Listeners are called one event at a time, in order, on a dedicated background thread.
+ *
+ * <p>A changed value of the default locale is also reported for the loaded locales falling back to it.
+ * A change of the default locale is always reported, see {@link LingonChangeEvent#isDefaultLocaleChanged()}.</p>
+ */
+@FunctionalInterface
+public interface LingonChangeListener {
+
+    /**
+     * Called after new language data has been swapped in and at least one value changed,
+     * or after the default locale changed.
+     *
+     * @param event the changed values
+     */
+    void onChange(LingonChangeEvent event);
+}
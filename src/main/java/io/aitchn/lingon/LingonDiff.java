@@ -0,0 +1,233 @@
+package io.aitchn.lingon;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Utility class computing the changed values between two catalogs.
+ * Locales and files that are the same instance in both catalogs are skipped without being walked,
+ * which is the common case since unchanged files keep their parsed values across reloads.
+ * A changed file is parsed into new objects, so it is compared value by value in full.
+ *
+ * <p>Lookups fall back to the default locale for keys a locale does not define, so a change in the
+ * default locale is also reported for every other loaded locale without a value of its own at that key.</p>
+ */
+final class LingonDiff {
+
+    private LingonDiff() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Compute the changed values between two catalogs.
+     *
+     * @param previous the catalog before the reload
+     * @param next the catalog after the reload
+     * @param defaultLocale the default locale directory name, or null to report changes of each locale only
+     * @return the changed values, grouped by locale and file
+     */
+    static List<LingonChange> diff(LingonCatalog previous, LingonCatalog next, String defaultLocale) {
+        List<LingonChange> changes = new ArrayList<>();
+        for (String locale : union(previous.getLocales(), next.getLocales())) {
+            diffTexts(locale, previous.getTexts(locale), next.getTexts(locale), changes);
+        }
+
+        List<LingonChange> defaultChanges = new ArrayList<>();
+        for (LingonChange change : changes) {
+            if (change.getLocale().equals(defaultLocale)) {
+                defaultChanges.add(change);
+            }
+        }
+        if (!defaultChanges.isEmpty()) {
+            Set<LingonChange> reported = new LinkedHashSet<>(changes);
+            for (String locale : next.getLocales()) {
+                if (!locale.equals(defaultLocale)) {
+                    addFallbackChanges(locale, next.getTexts(locale), defaultChanges, reported);
+                }
+            }
+            return new ArrayList<>(reported);
+        }
+        return changes;
+    }
+
+    /**
+     * Compute the values rendered differently after the default locale changed.
+     * Every loaded locale falls back to the default locale for the keys it does not define,
+     * so those keys change from the values of the previous default locale to the values of the new one.
+     *
+     * @param catalog the loaded catalog
+     * @param previousDefault the previous default locale directory name, or null
+     * @param nextDefault the new default locale directory name, or null
+     * @return the changed values, grouped by locale and file
+     */
+    static List<LingonChange> diffDefaultLocale(LingonCatalog catalog, String previousDefault, String nextDefault) {
+        List<LingonChange> fallbackChanges = new ArrayList<>();
+        diffTexts("", catalog.getTexts(previousDefault), catalog.getTexts(nextDefault), fallbackChanges);
+        if (fallbackChanges.isEmpty()) {
+            return fallbackChanges;
+        }
+
+        Set<LingonChange> changes = new LinkedHashSet<>();
+        for (String locale : catalog.getLocales()) {
+            addFallbackChanges(locale, catalog.getTexts(locale), fallbackChanges, changes);
+        }
+        return new ArrayList<>(changes);
+    }
+
+    /**
+     * Compare the documents of a locale and collect the changed leaf values.
+     *
+     * @param locale the locale directory name to report
+     * @param previousTexts the previous documents
+     * @param nextTexts the next documents
+     * @param changes the list to add changes to
+     */
+    private static void diffTexts(String locale, Map<String, Object> previousTexts, Map<String, Object> nextTexts,
+                                  List<LingonChange> changes) {
+        if (previousTexts == nextTexts) {
+            return;
+        }
+
+        for (String file : union(previousTexts.keySet(), nextTexts.keySet())) {
+            diffValue(locale, file, "", previousTexts.get(file), nextTexts.get(file), changes);
+        }
+    }
+
+    /**
+     * Report changes of the fallback data for a locale, at the keys the locale does not define itself.
+     *
+     * @param locale the locale directory name
+     * @param texts the documents of the locale
+     * @param fallbackChanges the changed values of the fallback data
+     * @param changes the set to add changes to
+     */
+    private static void addFallbackChanges(String locale, Map<String, Object> texts,
+                                           List<LingonChange> fallbackChanges, Set<LingonChange> changes) {
+        for (LingonChange change : fallbackChanges) {
+            if (LingonJson.at(texts.get(change.getFile()), change.getKey()) == null) {
+                changes.add(new LingonChange(change.getType(), locale, change.getFile(), change.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Compare two values and collect the changed leaf values below them.
+     *
+     * @param locale the locale directory name
+     * @param file the dotted file name
+     * @param key the key path of the values
+     * @param previous the previous value, or null if absent
+     * @param next the next value, or null if absent
+     * @param changes the list to add changes to
+     */
+    private static void diffValue(String locale, String file, String key,
+                                  Object previous, Object next, List<LingonChange> changes) {
+        if (previous == next) {
+            return;
+        }
+
+        if (previous instanceof Map && next instanceof Map) {
+            Map<?, ?> previousObject = (Map<?, ?>) previous;
+            Map<?, ?> nextObject = (Map<?, ?>) next;
+            Set<Object> fieldNames = new LinkedHashSet<>(previousObject.keySet());
+            fieldNames.addAll(nextObject.keySet());
+            for (Object fieldName : fieldNames) {
+                diffValue(locale, file, childKey(key, String.valueOf(fieldName)),
+                        previousObject.get(fieldName), nextObject.get(fieldName), changes);
+            }
+            return;
+        }
+
+        if (previous instanceof List && next instanceof List) {
+            List<?> previousArray = (List<?>) previous;
+            List<?> nextArray = (List<?>) next;
+            int size = Math.max(previousArray.size(), nextArray.size());
+            for (int i = 0; i < size; i++) {
+                diffValue(locale, file, key + "[" + i + "]",
+                        i < previousArray.size() ? previousArray.get(i) : null,
+                        i < nextArray.size() ? nextArray.get(i) : null,
+                        changes);
+            }
+            return;
+        }
+
+        if (previous != null && next != null && !isContainer(previous) && !isContainer(next)) {
+            if (!Objects.equals(previous, next)) {
+                changes.add(new LingonChange(LingonChange.Type.MODIFIED, locale, file, key));
+            }
+            return;
+        }
+
+        // Absent on one side, or the shape changed between value, object and array
+        collectLeaves(locale, file, key, previous, LingonChange.Type.REMOVED, changes);
+        collectLeaves(locale, file, key, next, LingonChange.Type.ADDED, changes);
+    }
+
+    /**
+     * Collect every leaf value below a value as a change of the given type.
+     *
+     * @param locale the locale directory name
+     * @param file the dotted file name
+     * @param key the key path of the value
+     * @param value the value, or null to collect nothing
+     * @param type the change type to report
+     * @param changes the list to add changes to
+     */
+    private static void collectLeaves(String locale, String file, String key,
+                                      Object value, LingonChange.Type type, List<LingonChange> changes) {
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> field : ((Map<?, ?>) value).entrySet()) {
+                collectLeaves(locale, file, childKey(key, String.valueOf(field.getKey())), field.getValue(), type, changes);
+            }
+        } else if (value instanceof List) {
+            List<?> array = (List<?>) value;
+            for (int i = 0; i < array.size(); i++) {
+                collectLeaves(locale, file, key + "[" + i + "]", array.get(i), type, changes);
+            }
+        } else {
+            changes.add(new LingonChange(type, locale, file, key));
+        }
+    }
+
+    /**
+     * Check if a value is an object or an array.
+     *
+     * @param value the value to check
+     * @return true if the value is a container
+     */
+    private static boolean isContainer(Object value) {
+        return value instanceof Map || value instanceof List;
+    }
+
+    /**
+     * Append a field name to a key path.
+     *
+     * @param key the parent key path
+     * @param fieldName the field name
+     * @return the child key path
+     */
+    private static String childKey(String key, String fieldName) {
+        return key.isEmpty() ? fieldName : key + "." + fieldName;
+    }
+
+    /**
+     * Get the union of two sets, keeping the order of the first set.
+     *
+     * @param first the first set
+     * @param second the second set
+     * @return the union
+     */
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> union = new LinkedHashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+}
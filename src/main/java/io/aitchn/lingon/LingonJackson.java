@@ -0,0 +1,125 @@
+package io.aitchn.lingon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class converting between Jackson trees and the plain values read by {@link LingonJson}.
+ * This is the only place Jackson is used, so the library runs without Jackson on the classpath
+ * as long as none of the {@link JsonNode} accessors of {@link LingonLang} are called.
+ */
+final class LingonJackson {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private LingonJackson() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Convert a plain value to a Jackson tree.
+     *
+     * @param value a value as returned by {@link LingonJson#parse(String)}, or null
+     * @return the JSON node, or {@link MissingNode} if the value is null
+     */
+    static JsonNode toJsonNode(Object value) {
+        return value == null ? MissingNode.getInstance() : toNode(value);
+    }
+
+    /**
+     * Convert a Jackson tree to a plain value.
+     *
+     * @param node the JSON node, may be null
+     * @return the plain value, or null for null, missing or JSON null nodes
+     */
+    static Object toValue(JsonNode node) {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isObject()) {
+            Map<String, Object> object = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                object.put(field.getKey(), toValue(field.getValue()));
+            }
+            return Collections.unmodifiableMap(object);
+        }
+        if (node.isArray()) {
+            List<Object> array = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                array.add(toValue(element));
+            }
+            return Collections.unmodifiableList(array);
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        return node.toString();
+    }
+
+    /**
+     * Convert a non-null plain value to a Jackson node.
+     *
+     * @param value the plain value
+     * @return the JSON node
+     */
+    private static JsonNode toNode(Object value) {
+        if (value == null) {
+            return NODE_FACTORY.nullNode();
+        }
+        if (value instanceof Map) {
+            ObjectNode object = NODE_FACTORY.objectNode();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                object.set(String.valueOf(entry.getKey()), toNode(entry.getValue()));
+            }
+            return object;
+        }
+        if (value instanceof List) {
+            ArrayNode array = NODE_FACTORY.arrayNode();
+            for (Object element : (List<?>) value) {
+                array.add(toNode(element));
+            }
+            return array;
+        }
+        if (value instanceof String) {
+            return NODE_FACTORY.textNode((String) value);
+        }
+        if (value instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) value);
+        }
+        if (value instanceof Integer) {
+            return NODE_FACTORY.numberNode((Integer) value);
+        }
+        if (value instanceof Long) {
+            return NODE_FACTORY.numberNode((Long) value);
+        }
+        if (value instanceof BigInteger) {
+            return NODE_FACTORY.numberNode((BigInteger) value);
+        }
+        if (value instanceof BigDecimal) {
+            return NODE_FACTORY.numberNode((BigDecimal) value);
+        }
+        if (value instanceof Number) {
+            return NODE_FACTORY.numberNode(((Number) value).doubleValue());
+        }
+        return NODE_FACTORY.textNode(value.toString());
+    }
+}
@@ -0,0 +1,589 @@
+package io.aitchn.lingon;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A small JSON reader and writer specialised for translation files.
+ * Documents are read into plain immutable Java values:
+ * objects become {@code Map<String, Object>} (in document order), arrays become {@code List<Object>},
+ * and scalars become {@link String}, {@link Integer}, {@link Long}, {@link BigInteger}, {@link Double},
+ * {@link Boolean} or {@code null}.
+ */
+final class LingonJson {
+    private static final Pattern ARRAY_INDEX_PATTERN = Pattern.compile("\\[(\\d+)]");
+    private static final int MAX_DEPTH = 1000;
+
+    private LingonJson() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Parse a JSON document.
+     *
+     * @param json the JSON text
+     * @return the parsed value
+     * @throws IOException if the text is not valid JSON
+     */
+    static Object parse(String json) throws IOException {
+        Parser parser = new Parser(json);
+        parser.skipWhitespace();
+        Object value = parser.readValue(0);
+        parser.skipWhitespace();
+        if (parser.position < json.length()) {
+            throw parser.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    /**
+     * Check if a text holds no JSON value at all, only whitespace or a byte order mark.
+     * Such files are treated as absent documents rather than invalid ones.
+     *
+     * @param json the JSON text
+     * @return true if the text is empty or blank
+     */
+    static boolean isBlank(String json) {
+        Parser parser = new Parser(json);
+        parser.skipWhitespace();
+        return parser.position == json.length();
+    }
+
+    /**
+     * Get the value at a key path.
+     * The path uses dots between object fields and either dots or brackets for array indexes,
+     * e.g., "main.title", "items[1].name" or "items.1.name".
+     *
+     * @param root the value to search in
+     * @param path the key path, or an empty string for the root itself
+     * @return the value at the path, or null if it does not exist or is JSON null
+     */
+    static Object at(Object root, String path) {
+        if (root == null || path == null || path.isEmpty()) {
+            return root;
+        }
+
+        // Same segments as the JSON Pointer form: "items[0].name" -> "items/0/name"
+        String pointer = ARRAY_INDEX_PATTERN.matcher(path.replace('.', '/')).replaceAll("/$1");
+        Object current = root;
+        for (String segment : pointer.split("/", -1)) {
+            segment = segment.replace("~1", "/").replace("~0", "~");
+            if (current instanceof Map) {
+                current = ((Map<?, ?>) current).get(segment);
+            } else if (current instanceof List) {
+                int index = parseIndex(segment);
+                List<?> list = (List<?>) current;
+                current = (index >= 0 && index < list.size()) ? list.get(index) : null;
+            } else {
+                return null;
+            }
+
+            if (current == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Write a value as compact JSON.
+     *
+     * @param value a value as returned by {@link #parse(String)}
+     * @return the JSON text
+     */
+    static String write(Object value) {
+        StringBuilder builder = new StringBuilder();
+        write(value, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Write a value as compact JSON.
+     *
+     * @param value the value to write
+     * @param builder the builder to append to
+     */
+    private static void write(Object value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof String) {
+            writeString((String) value, builder);
+        } else if (value instanceof Map) {
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                writeString(String.valueOf(entry.getKey()), builder);
+                builder.append(':');
+                write(entry.getValue(), builder);
+            }
+            builder.append('}');
+        } else if (value instanceof List) {
+            builder.append('[');
+            boolean first = true;
+            for (Object element : (List<?>) value) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                write(element, builder);
+            }
+            builder.append(']');
+        } else if (value instanceof Double && !Double.isFinite((Double) value)) {
+            // Numbers out of double range parse as infinite; like Jackson, write them as strings to stay valid JSON
+            writeString(value.toString(), builder);
+        } else {
+            builder.append(value);
+        }
+    }
+
+    /**
+     * Write a string as a quoted JSON string.
+     *
+     * @param value the string to write
+     * @param builder the builder to append to
+     */
+    private static void writeString(String value, StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Parse an array index segment.
+     *
+     * @param segment the path segment
+     * @return the index, or -1 if the segment is not a non-negative integer without leading zeros
+     */
+    private static int parseIndex(String segment) {
+        if (segment.isEmpty() || segment.length() > 10 || (segment.length() > 1 && segment.charAt(0) == '0')) {
+            return -1;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (segment.charAt(i) < '0' || segment.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        long index = Long.parseLong(segment);
+        return index > Integer.MAX_VALUE ? -1 : (int) index;
+    }
+
+    /**
+     * A recursive descent parser over a JSON string.
+     */
+    private static final class Parser {
+        private final String json;
+        private int position;
+
+        /**
+         * Creates a new parser.
+         *
+         * @param json the JSON text
+         */
+        Parser(String json) {
+            this.json = json;
+        }
+
+        /**
+         * Read any JSON value at the current position.
+         *
+         * @param depth the current nesting depth
+         * @return the value
+         * @throws IOException if the text is not valid JSON
+         */
+        Object readValue(int depth) throws IOException {
+            if (position >= json.length()) {
+                throw error("Unexpected end of input");
+            }
+
+            char c = json.charAt(position);
+            switch (c) {
+                case '{':
+                    return readObject(depth + 1);
+                case '[':
+                    return readArray(depth + 1);
+                case '"':
+                    return readString();
+                case 't':
+                    expectLiteral("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expectLiteral("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expectLiteral("null");
+                    return null;
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        return readNumber();
+                    }
+                    throw error("Unexpected character '" + c + "'");
+            }
+        }
+
+        /**
+         * Read a JSON object.
+         *
+         * @param depth the nesting depth of the object
+         * @return an unmodifiable map in document order
+         * @throws IOException if the text is not valid JSON
+         */
+        private Map<String, Object> readObject(int depth) throws IOException {
+            checkDepth(depth);
+            position++;
+            Map<String, Object> object = new LinkedHashMap<>();
+
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return Collections.unmodifiableMap(object);
+            }
+
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("Expected field name");
+                }
+                String name = readString();
+
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                object.put(name, readValue(depth));
+
+                skipWhitespace();
+                char c = next();
+                if (c == '}') {
+                    return Collections.unmodifiableMap(object);
+                }
+                if (c != ',') {
+                    position--;
+                    throw error("Expected ',' or '}'");
+                }
+            }
+        }
+
+        /**
+         * Read a JSON array.
+         *
+         * @param depth the nesting depth of the array
+         * @return an unmodifiable list
+         * @throws IOException if the text is not valid JSON
+         */
+        private List<Object> readArray(int depth) throws IOException {
+            checkDepth(depth);
+            position++;
+            List<Object> array = new ArrayList<>();
+
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return Collections.unmodifiableList(array);
+            }
+
+            while (true) {
+                skipWhitespace();
+                array.add(readValue(depth));
+
+                skipWhitespace();
+                char c = next();
+                if (c == ']') {
+                    return Collections.unmodifiableList(array);
+                }
+                if (c != ',') {
+                    position--;
+                    throw error("Expected ',' or ']'");
+                }
+            }
+        }
+
+        /**
+         * Read a JSON string, starting at its opening quote.
+         *
+         * @return the unescaped string
+         * @throws IOException if the string is not valid JSON
+         */
+        private String readString() throws IOException {
+            position++;
+            int start = position;
+
+            // Fast path: no escapes
+            while (position < json.length()) {
+                char c = json.charAt(position);
+                if (c == '"') {
+                    return json.substring(start, position++);
+                }
+                if (c == '\\') {
+                    break;
+                }
+                if (c < 0x20) {
+                    throw error("Unescaped control character in string");
+                }
+                position++;
+            }
+
+            StringBuilder builder = new StringBuilder(json.substring(start, position));
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return builder.toString();
+                }
+                if (c < 0x20) {
+                    position--;
+                    throw error("Unescaped control character in string");
+                }
+                if (c != '\\') {
+                    builder.append(c);
+                    continue;
+                }
+
+                char escaped = next();
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        builder.append(escaped);
+                        break;
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        builder.append(readHexCharacter());
+                        break;
+                    default:
+                        position--;
+                        throw error("Invalid escape '\\" + escaped + "'");
+                }
+            }
+        }
+
+        /**
+         * Read the four hex digits of a {@code \\u} escape.
+         *
+         * @return the escaped character
+         * @throws IOException if the digits are invalid
+         */
+        private char readHexCharacter() throws IOException {
+            if (position + 4 > json.length()) {
+                throw error("Unexpected end of input in unicode escape");
+            }
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(json.charAt(position++), 16);
+                if (digit < 0) {
+                    position--;
+                    throw error("Invalid unicode escape");
+                }
+                value = (value << 4) | digit;
+            }
+            return (char) value;
+        }
+
+        /**
+         * Read a JSON number.
+         *
+         * @return an Integer, Long or BigInteger for integral numbers, otherwise a Double
+         * @throws IOException if the number is not valid JSON
+         */
+        private Number readNumber() throws IOException {
+            int start = position;
+            boolean integral = true;
+
+            if (peek() == '-') {
+                position++;
+            }
+            if (peek() == '0') {
+                position++;
+            } else {
+                readDigits();
+            }
+            if (peek() == '.') {
+                integral = false;
+                position++;
+                readDigits();
+            }
+            if (peek() == 'e' || peek() == 'E') {
+                integral = false;
+                position++;
+                if (peek() == '+' || peek() == '-') {
+                    position++;
+                }
+                readDigits();
+            }
+
+            String text = json.substring(start, position);
+            if (!integral) {
+                return Double.parseDouble(text);
+            }
+            if (text.length() <= 18) {
+                long value = Long.parseLong(text);
+                if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                    return (int) value;
+                }
+                return value;
+            }
+            BigInteger value = new BigInteger(text);
+            return value.bitLength() < 64 ? (Number) value.longValue() : value;
+        }
+
+        /**
+         * Read one or more decimal digits.
+         *
+         * @throws IOException if there is no digit at the current position
+         */
+        private void readDigits() throws IOException {
+            int start = position;
+            while (position < json.length() && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+                position++;
+            }
+            if (start == position) {
+                throw error("Expected digit");
+            }
+        }
+
+        /**
+         * Consume a literal such as "true".
+         *
+         * @param literal the expected literal
+         * @throws IOException if the text does not match
+         */
+        private void expectLiteral(String literal) throws IOException {
+            if (!json.startsWith(literal, position)) {
+                throw error("Expected '" + literal + "'");
+            }
+            position += literal.length();
+        }
+
+        /**
+         * Consume an expected character.
+         *
+         * @param expected the expected character
+         * @throws IOException if a different character is found
+         */
+        private void expect(char expected) throws IOException {
+            if (peek() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+            position++;
+        }
+
+        /**
+         * Get the character at the current position without consuming it.
+         *
+         * @return the character, or 0 at the end of input
+         */
+        private char peek() {
+            return position < json.length() ? json.charAt(position) : 0;
+        }
+
+        /**
+         * Consume the character at the current position.
+         *
+         * @return the character
+         * @throws IOException at the end of input
+         */
+        private char next() throws IOException {
+            if (position >= json.length()) {
+                throw error("Unexpected end of input");
+            }
+            return json.charAt(position++);
+        }
+
+        /**
+         * Skip JSON whitespace.
+         */
+        void skipWhitespace() {
+            while (position < json.length()) {
+                char c = json.charAt(position);
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t' && c != '\uFEFF') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        /**
+         * Fail if the nesting depth is too large.
+         *
+         * @param depth the nesting depth
+         * @throws IOException if the depth exceeds the limit
+         */
+        private void checkDepth(int depth) throws IOException {
+            if (depth > MAX_DEPTH) {
+                throw error("Nesting depth exceeds " + MAX_DEPTH);
+            }
+        }
+
+        /**
+         * Create an exception describing a syntax error at the current position.
+         *
+         * @param message the error message
+         * @return the exception
+         */
+        IOException error(String message) {
+            int line = 1;
+            int column = 1;
+            for (int i = 0; i < position && i < json.length(); i++) {
+                if (json.charAt(i) == '\n') {
+                    line++;
+                    column = 1;
+                } else {
+                    column++;
+                }
+            }
+            return new IOException(message + " at line " + line + ", column " + column);
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package io.aitchn.lingon;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a localized language data holder with primary and fallback locale support.
+ *
+ * <p>The data is held as plain values read by Lingon's built-in JSON reader.
+ * The {@link JsonNode} constructor and accessors require Jackson on the classpath;
+ * everything else works without it.</p>
  */
 public final class LingonLang {
     private final String primaryLocale;
-    private final JsonNode primaryLanguageData;
+    private final Object primaryData;
     private final String fallbackLocale;
-    private final JsonNode fallbackLanguageData;
+    private final Object fallbackData;
+
+    // The loaded locale data the documents come from, sharing their indexes and Jackson views
+    private String file;
+    private LingonCatalog.LocaleData primarySource;
+    private LingonCatalog.LocaleData fallbackSource;
+
+    // Leaf key indexes and Jackson views of the data, created on first use when not provided
+    private LingonPrefixIndex primaryKeyIndex;
+    private LingonPrefixIndex fallbackKeyIndex;
+    private JsonNode primaryLanguageData;
+    private JsonNode fallbackLanguageData;
 
     /**
      * Creates a new LingonLang instance with primary and fallback language data.
@@ -22,12 +39,52 @@ public final class LingonLang {
      */
     public LingonLang(String primaryLocale, JsonNode primaryLanguageData,
                       String fallbackLocale, JsonNode fallbackLanguageData) {
-        this.primaryLocale = primaryLocale;
+        this(primaryLocale, LingonJackson.toValue(primaryLanguageData),
+                fallbackLocale, LingonJackson.toValue(fallbackLanguageData));
         this.primaryLanguageData = primaryLanguageData;
-        this.fallbackLocale = fallbackLocale;
         this.fallbackLanguageData = fallbackLanguageData;
     }
 
+    /**
+     * Creates a new LingonLang instance with primary and fallback data read by {@link LingonJson}.
+     *
+     * @param primaryLocale the primary locale identifier
+     * @param primaryData the data for the primary locale, or null if absent
+     * @param fallbackLocale the fallback locale identifier
+     * @param fallbackData the data for the fallback locale, or null if absent
+     */
+    private LingonLang(String primaryLocale, Object primaryData,
+                       String fallbackLocale, Object fallbackData) {
+        this.primaryLocale = primaryLocale;
+        this.primaryData = primaryData;
+        this.fallbackLocale = fallbackLocale;
+        this.fallbackData = fallbackData;
+    }
+
+    /**
+     * Creates a new LingonLang instance for a file of the loaded locale data.
+     * The key indexes and Jackson views are shared with the locale data rather than built per instance.
+     *
+     * @param file the dotted file name
+     * @param primaryLocale the primary locale identifier
+     * @param primaryData the loaded data of the primary locale
+     * @param fallbackLocale the fallback locale identifier
+     * @param fallbackData the loaded data of the fallback locale
+     * @return the new instance
+     */
+    static LingonLang of(String file,
+                         String primaryLocale, LingonCatalog.LocaleData primaryData,
+                         String fallbackLocale, LingonCatalog.LocaleData fallbackData) {
+        LingonLang lang = new LingonLang(primaryLocale, primaryData.getTexts().get(file),
+                fallbackLocale, fallbackData.getTexts().get(file));
+        lang.file = file;
+        lang.primarySource = primaryData;
+        lang.fallbackSource = fallbackData;
+        lang.primaryKeyIndex = primaryData.getKeyIndex(file);
+        lang.fallbackKeyIndex = fallbackData.getKeyIndex(file);
+        return lang;
+    }
+
     /**
      * Retrieves a localized value from the language data for the specified key.
      * The primary language data is checked first. If the value is missing or null,
@@ -39,47 +96,66 @@ public final class LingonLang {
      *         or wrapping the key if no value is found
      */
     public LocalizedString get(String key) {
-        JsonNode node = getNodeAtPath(primaryLanguageData, key);
-        if (isMissingOrNull(node)) {
-            node = getNodeAtPath(fallbackLanguageData, key);
+        Object value = LingonJson.at(primaryData, key);
+        if (value == null) {
+            value = LingonJson.at(fallbackData, key);
         }
-        if (isMissingOrNull(node)) {
+        if (value == null) {
             return new LocalizedString(key);
         }
-        String value = node.isTextual() ? node.asText() : node.toString();
-        return new LocalizedString(value);
+        return new LocalizedString(value instanceof String ? (String) value : LingonJson.write(value));
     }
 
     /**
-     * Check if a JSON node is missing, null, or represents a null value.
+     * Get the key paths under a namespace, from both the primary and fallback data.
+     * Only keys holding a value are returned; for example, the namespace "menu" (or "menu.")
+     * matches "menu.file" and "menu.items[0]".
      *
-     * @param node the node to check
-     * @return true if the node is missing, null, or represents null
+     * @param namespace the key namespace, or an empty string for all keys
+     * @return an unmodifiable sorted list of key paths
      */
-    private static boolean isMissingOrNull(JsonNode node) {
-        return node == null || node.isMissingNode() || node.isNull();
+    public List<String> getKeys(String namespace) {
+        return List.copyOf(LingonPrefixIndex.resolve(primaryKeyIndex(), fallbackKeyIndex(), namespace).keySet());
     }
 
     /**
-     * Get a JSON node at the specified path using JSON Pointer syntax.
+     * Resolve every key under a namespace in one call.
+     * Every returned value is what {@link #get(String)} returns for that key: the primary value,
+     * or the fallback value if the primary data has nothing at the key.
      *
-     * @param rootNode the root node to search in
-     * @param path the dot-separated path to the desired node
-     * @return the node at the specified path, or MissingNode if not found
+     * @param namespace the key namespace, or an empty string for all keys
+     * @return an unmodifiable map of key paths to values, sorted by key path
      */
-    private static JsonNode getNodeAtPath(JsonNode rootNode, String path) {
-        if (rootNode == null || rootNode.isMissingNode()) {
-            return MissingNode.getInstance();
-        }
-        if (path == null || path.isEmpty()) {
-            return rootNode;
+    public Map<String, String> getAll(String namespace) {
+        return LingonPrefixIndex.resolve(primaryKeyIndex(), fallbackKeyIndex(), namespace);
+    }
+
+    /**
+     * Get the leaf key index of the primary data, building it if it was not provided.
+     *
+     * @return the key index
+     */
+    private LingonPrefixIndex primaryKeyIndex() {
+        LingonPrefixIndex index = primaryKeyIndex;
+        if (index == null) {
+            index = LingonPrefixIndex.ofLeaves(primaryData);
+            primaryKeyIndex = index;
         }
+        return index;
+    }
 
-        // Convert dot notation to JSON Pointer format
-        // e.g., "command.help" -> "/command/help"
-        // e.g., "items[0].name" -> "/items/0/name"
-        String jsonPointer = "/" + path.replace(".", "/").replaceAll("\\[(\\d+)]", "/$1");
-        return rootNode.at(jsonPointer);
+    /**
+     * Get the leaf key index of the fallback data, building it if it was not provided.
+     *
+     * @return the key index
+     */
+    private LingonPrefixIndex fallbackKeyIndex() {
+        LingonPrefixIndex index = fallbackKeyIndex;
+        if (index == null) {
+            index = LingonPrefixIndex.ofLeaves(fallbackData);
+            fallbackKeyIndex = index;
+        }
+        return index;
     }
 
     /**
@@ -92,21 +168,35 @@ public final class LingonLang {
     }
 
     /**
-     * Get the primary language data.
+     * Get the primary language data. Requires Jackson on the classpath.
      *
-     * @return the JSON node containing primary language data
+     * @return the JSON node containing primary language data, or a missing node if absent
      */
     public JsonNode getPrimaryLanguageData() {
-        return primaryLanguageData;
+        JsonNode node = primaryLanguageData;
+        if (node == null) {
+            node = (primarySource != null)
+                    ? (JsonNode) primarySource.getJsonNode(file)
+                    : LingonJackson.toJsonNode(primaryData);
+            primaryLanguageData = node;
+        }
+        return node;
     }
 
     /**
-     * Get the fallback language data.
+     * Get the fallback language data. Requires Jackson on the classpath.
      *
-     * @return the JSON node containing fallback language data
+     * @return the JSON node containing fallback language data, or a missing node if absent
      */
     public JsonNode getFallbackLanguageData() {
-        return fallbackLanguageData;
+        JsonNode node = fallbackLanguageData;
+        if (node == null) {
+            node = (fallbackSource != null)
+                    ? (JsonNode) fallbackSource.getJsonNode(file)
+                    : LingonJackson.toJsonNode(fallbackData);
+            fallbackLanguageData = node;
+        }
+        return node;
     }
 
     /**
@@ -0,0 +1,127 @@
+package io.aitchn.lingon;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A per-locale view of the loaded language data.
+ * The primary and fallback locale data are resolved once when the view is created,
+ * so repeated lookups skip the locale-to-directory conversion and locale map lookups.
+ * A view is a snapshot: it keeps serving the data it was created with, even after a reload.
+ */
+public final class LingonLocale {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LingonLocale.class);
+
+    private final Locale locale;
+    private final String primaryLocale;
+    private final LingonCatalog.LocaleData primaryData;
+    private final String fallbackLocale;
+    private final LingonCatalog.LocaleData fallbackData;
+
+    /**
+     * Creates a new view over already resolved locale data.
+     *
+     * @param locale the locale this view was requested for
+     * @param primaryLocale the primary locale directory name
+     * @param primaryData the loaded data of the primary locale
+     * @param fallbackLocale the fallback locale directory name
+     * @param fallbackData the loaded data of the fallback locale
+     */
+    LingonLocale(Locale locale,
+                 String primaryLocale, LingonCatalog.LocaleData primaryData,
+                 String fallbackLocale, LingonCatalog.LocaleData fallbackData) {
+        this.locale = locale;
+        this.primaryLocale = primaryLocale;
+        this.primaryData = primaryData;
+        this.fallbackLocale = fallbackLocale;
+        this.fallbackData = fallbackData;
+    }
+
+    /**
+     * Get a localized file for the specified path.
+     *
+     * @param path the dotted file name (e.g., "command.help")
+     * @return the localized string wrapper
+     */
+    public LingonLang get(String path) {
+        Object primaryDocument = primaryData.getTexts().get(path);
+        Object fallbackDocument = fallbackData.getTexts().get(path);
+
+        if (primaryDocument == null && fallbackDocument == null) {
+            LOGGER.warn("Missing file '{}' for locales primary={} fallback={}", path, primaryLocale, fallbackLocale);
+        }
+
+        return LingonLang.of(path, primaryLocale, primaryData, fallbackLocale, fallbackData);
+    }
+
+    /**
+     * Get a localized value for the specified file and key.
+     * Shortcut for {@code get(path).get(key)}.
+     *
+     * @param path the dotted file name (e.g., "command.help")
+     * @param key the key path inside the file (e.g., "main.title")
+     * @return the resolved {@link LocalizedString}
+     */
+    public LocalizedString get(String path, String key) {
+        return get(path).get(key);
+    }
+
+    /**
+     * Get the dotted file names under a namespace, from both the primary and fallback locale.
+     * For example, the namespace "command" (or "command.") matches "command" and "command.help".
+     *
+     * @param namespace the file namespace, or an empty string for all files
+     * @return an unmodifiable sorted list of dotted file names
+     */
+    public List<String> getFiles(String namespace) {
+        return LingonPrefixIndex.names(primaryData.getFileIndex(), fallbackData.getFileIndex(), namespace);
+    }
+
+    /**
+     * Resolve every key of every file under a namespace in one call.
+     * Each key takes its value from the primary locale, or from the fallback locale if missing.
+     *
+     * @param namespace the file namespace, or an empty string for all files
+     * @return an unmodifiable map of dotted file names to maps of key paths to values, both sorted
+     */
+    public Map<String, Map<String, String>> getAll(String namespace) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (String file : getFiles(namespace)) {
+            result.put(file, LingonPrefixIndex.resolve(primaryData.getKeyIndex(file), fallbackData.getKeyIndex(file), ""));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get the locale this view was requested for.
+     *
+     * @return the requested locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Get the primary locale directory name.
+     *
+     * @return the primary locale directory name
+     */
+    public String getPrimaryLocale() {
+        return primaryLocale;
+    }
+
+    /**
+     * Get the fallback locale directory name.
+     *
+     * @return the fallback locale directory name
+     */
+    public String getFallbackLocale() {
+        return fallbackLocale;
+    }
+}
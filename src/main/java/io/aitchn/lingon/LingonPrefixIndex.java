@@ -0,0 +1,286 @@
+package io.aitchn.lingon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An immutable index of dotted names, sorted so that every name in a namespace forms a contiguous range.
+ * Used for the dotted file names of a locale and for the leaf key paths of a document,
+ * where each key also carries its rendered value.
+ *
+ * <p>A namespace {@code "menu"} (or {@code "menu."}) contains {@code "menu"} itself and every name
+ * starting with {@code "menu."} or {@code "menu["}; an empty namespace contains every name.</p>
+ */
+final class LingonPrefixIndex {
+    static final LingonPrefixIndex EMPTY = new LingonPrefixIndex(new String[0], new String[0], new String[0]);
+
+    private final String[] names;
+    private final String[] values;
+    private final String[] containers;
+
+    /**
+     * Creates a new index.
+     *
+     * @param names the sorted, distinct names
+     * @param values the values of the names, in the same order
+     * @param containers the sorted key paths of the objects and arrays of a document, empty for a name index
+     */
+    private LingonPrefixIndex(String[] names, String[] values, String[] containers) {
+        this.names = names;
+        this.values = values;
+        this.containers = containers;
+    }
+
+    /**
+     * Create an index of names without values.
+     *
+     * @param names the names to index
+     * @return the index
+     */
+    static LingonPrefixIndex ofNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return EMPTY;
+        }
+        String[] sorted = new TreeSet<>(names).toArray(new String[0]);
+        return new LingonPrefixIndex(sorted, new String[sorted.length], new String[0]);
+    }
+
+    /**
+     * Create an index of the leaf values of a document.
+     * Each leaf is keyed by its key path in the format accepted by {@link LingonLang#get(String)},
+     * and its value is rendered the same way. JSON null values and empty objects or arrays are not leaves.
+     * The key paths of all objects and arrays, empty ones included, are kept as well,
+     * since a lookup of such a key finds the container rather than a fallback value.
+     *
+     * @param document a document as returned by {@link LingonJson#parse(String)}
+     * @return the index
+     */
+    static LingonPrefixIndex ofLeaves(Object document) {
+        TreeMap<String, String> leaves = new TreeMap<>();
+        TreeSet<String> containers = new TreeSet<>();
+        collectLeaves("", document, leaves, containers);
+        if (leaves.isEmpty() && containers.isEmpty()) {
+            return EMPTY;
+        }
+        return new LingonPrefixIndex(
+                leaves.keySet().toArray(new String[0]),
+                leaves.values().toArray(new String[0]),
+                containers.toArray(new String[0]));
+    }
+
+    /**
+     * Flatten a document into its leaf values and container key paths.
+     *
+     * @param key the key path of the value
+     * @param value the value to flatten
+     * @param leaves the map to add leaves to
+     * @param containers the set to add the key paths of objects and arrays to
+     */
+    private static void collectLeaves(String key, Object value, Map<String, String> leaves, Collection<String> containers) {
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof Map) {
+            containers.add(key);
+            for (Map.Entry<?, ?> field : ((Map<?, ?>) value).entrySet()) {
+                String fieldName = String.valueOf(field.getKey());
+                collectLeaves(key.isEmpty() ? fieldName : key + "." + fieldName, field.getValue(), leaves, containers);
+            }
+        } else if (value instanceof List) {
+            containers.add(key);
+            List<?> array = (List<?>) value;
+            for (int i = 0; i < array.size(); i++) {
+                collectLeaves(key + "[" + i + "]", array.get(i), leaves, containers);
+            }
+        } else {
+            leaves.put(key, value instanceof String ? (String) value : LingonJson.write(value));
+        }
+    }
+
+    /**
+     * Get the number of names in this index.
+     *
+     * @return the number of names
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Get the names in a namespace.
+     *
+     * @param namespace the namespace, or an empty string for all names
+     * @return an unmodifiable sorted list of names
+     */
+    List<String> names(String namespace) {
+        int[] positions = positions(namespace);
+        List<String> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(names[position]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Get the sorted union of the names of two indexes in a namespace.
+     *
+     * @param primary the first index
+     * @param fallback the second index
+     * @param namespace the namespace, or an empty string for all names
+     * @return an unmodifiable sorted list of distinct names
+     */
+    static List<String> names(LingonPrefixIndex primary, LingonPrefixIndex fallback, String namespace) {
+        return Collections.unmodifiableList(new ArrayList<>(merge(primary, fallback, namespace, false).keySet()));
+    }
+
+    /**
+     * Resolve every leaf key of a namespace the way {@link LingonLang#get(String)} resolves it:
+     * from the primary index if it has a value there, otherwise from the fallback index.
+     * A fallback key is left out when the primary document holds an object or array at that key,
+     * even an empty one, since a lookup of the key finds that container in the primary data.
+     *
+     * @param primary the leaf key index whose values win
+     * @param fallback the leaf key index used for keys missing from the primary index
+     * @param namespace the namespace, or an empty string for all keys
+     * @return an unmodifiable map of key paths to values, sorted by key path
+     */
+    static Map<String, String> resolve(LingonPrefixIndex primary, LingonPrefixIndex fallback, String namespace) {
+        return merge(primary, fallback, namespace, true);
+    }
+
+    /**
+     * Merge the names of two indexes in a namespace, preferring the values of the primary index.
+     *
+     * @param primary the index whose values win
+     * @param fallback the index used for names missing from the primary index
+     * @param namespace the namespace, or an empty string for all names
+     * @param shadowContainers true to skip fallback names that are containers in the primary document
+     * @return an unmodifiable map of names to values, sorted by name
+     */
+    private static Map<String, String> merge(LingonPrefixIndex primary, LingonPrefixIndex fallback,
+                                             String namespace, boolean shadowContainers) {
+        int[] primaryPositions = primary.positions(namespace);
+        int[] fallbackPositions = fallback.positions(namespace);
+        Map<String, String> result = new LinkedHashMap<>();
+
+        // Both position lists are sorted by name, so a single merge pass is enough
+        int i = 0;
+        int j = 0;
+        while (i < primaryPositions.length || j < fallbackPositions.length) {
+            int comparison;
+            if (i == primaryPositions.length) {
+                comparison = 1;
+            } else if (j == fallbackPositions.length) {
+                comparison = -1;
+            } else {
+                comparison = primary.names[primaryPositions[i]].compareTo(fallback.names[fallbackPositions[j]]);
+            }
+
+            if (comparison <= 0) {
+                result.put(primary.names[primaryPositions[i]], primary.values[primaryPositions[i]]);
+                i++;
+                if (comparison == 0) {
+                    j++;
+                }
+            } else {
+                String name = fallback.names[fallbackPositions[j]];
+                if (!shadowContainers || Arrays.binarySearch(primary.containers, name) < 0) {
+                    result.put(name, fallback.values[fallbackPositions[j]]);
+                }
+                j++;
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Find the positions of the names in a namespace.
+     * The namespace itself, names starting with {@code namespace + "."} and names starting with
+     * {@code namespace + "["} are three contiguous ranges that follow each other in sorted order.
+     *
+     * @param namespace the namespace, or an empty string for all names
+     * @return the sorted positions
+     */
+    private int[] positions(String namespace) {
+        String normalized = normalize(namespace);
+        if (normalized.isEmpty()) {
+            int[] all = new int[names.length];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        int exact = Arrays.binarySearch(names, normalized);
+        String dotPrefix = normalized + ".";
+        String bracketPrefix = normalized + "[";
+        int dotStart = lowerBound(dotPrefix);
+        int dotEnd = lowerBound(successor(dotPrefix));
+        int bracketStart = lowerBound(bracketPrefix);
+        int bracketEnd = lowerBound(successor(bracketPrefix));
+
+        int[] positions = new int[(exact >= 0 ? 1 : 0) + (dotEnd - dotStart) + (bracketEnd - bracketStart)];
+        int count = 0;
+        if (exact >= 0) {
+            positions[count++] = exact;
+        }
+        for (int i = dotStart; i < dotEnd; i++) {
+            positions[count++] = i;
+        }
+        for (int i = bracketStart; i < bracketEnd; i++) {
+            positions[count++] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Find the first position whose name is not less than a value.
+     *
+     * @param value the value to search for
+     * @return the position, or the number of names if all names are less
+     */
+    private int lowerBound(String value) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (names[middle].compareTo(value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the smallest string greater than every string starting with a prefix
+     * that ends with '.' or '['.
+     *
+     * @param prefix the prefix
+     * @return the prefix with its last character incremented
+     */
+    private static String successor(String prefix) {
+        int last = prefix.length() - 1;
+        return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
+    }
+
+    /**
+     * Normalize a namespace by removing a trailing '.'.
+     *
+     * @param namespace the namespace, may be null
+     * @return the normalized namespace
+     */
+    private static String normalize(String namespace) {
+        if (namespace == null) {
+            return "";
+        }
+        return namespace.endsWith(".") ? namespace.substring(0, namespace.length() - 1) : namespace;
+    }
+}
@@ -0,0 +1,264 @@
+package io.aitchn.lingon;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Matches {@code Accept-Language} headers against a fixed set of loaded locales.
+ * Results are cached per header string. Cache hits do not lock; once the cache is full, a header that has
+ * not been used since the last eviction pass is evicted (second-chance eviction, an approximation of LRU).
+ * {@link Lingon} creates a new negotiator whenever the loaded locales or the default locale change,
+ * which drops the cache along with it.
+ */
+final class LocaleNegotiator {
+    private static final int MAX_CACHED_HEADERS = 256;
+    // RFC 9110 qvalue: 0 to 1 with at most three decimals
+    private static final Pattern QUALITY_PATTERN = Pattern.compile("0(\\.[0-9]{0,3})?|1(\\.0{0,3})?");
+
+    private final int generation;
+    private final Set<String> loadedLocales;
+    private final Map<String, String> localesByLanguage = new HashMap<>();
+    private final Locale defaultLocale;
+    private final Map<String, CachedLocale> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new negotiator.
+     *
+     * @param generation the locale generation of {@link Lingon} this negotiator was built for
+     * @param loadedLocales the loaded locale directory names
+     * @param defaultLocale the locale to return when nothing matches
+     */
+    LocaleNegotiator(int generation, Set<String> loadedLocales, Locale defaultLocale) {
+        this.generation = generation;
+        this.loadedLocales = loadedLocales;
+        this.defaultLocale = defaultLocale;
+
+        // The default locale wins for its own language; otherwise the first one in sorted order
+        String defaultLocaleName = Lingon.toDirectoryName(defaultLocale);
+        if (defaultLocaleName != null && loadedLocales.contains(defaultLocaleName)) {
+            localesByLanguage.put(languageOf(defaultLocaleName), defaultLocaleName);
+        }
+        for (String localeName : new TreeSet<>(loadedLocales)) {
+            localesByLanguage.putIfAbsent(languageOf(localeName), localeName);
+        }
+    }
+
+    /**
+     * Get the locale generation this negotiator was built for.
+     *
+     * @return the generation
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Pick the loaded locale best matching an {@code Accept-Language} header.
+     *
+     * @param acceptLanguage the header value (e.g., "zh-TW,zh;q=0.9,en;q=0.8")
+     * @return the matching loaded locale, or the default locale if none matches
+     */
+    Locale negotiate(String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return defaultLocale;
+        }
+
+        CachedLocale cached = cache.get(acceptLanguage);
+        if (cached != null) {
+            cached.markUsed();
+            return cached.locale;
+        }
+
+        Locale negotiated = match(acceptLanguage);
+        if (cache.putIfAbsent(acceptLanguage, new CachedLocale(negotiated)) == null) {
+            evictOverflow();
+        }
+        return negotiated;
+    }
+
+    /**
+     * Evict headers until the cache is back within its bound. Each pass gives recently used headers
+     * a second chance by clearing their mark, and evicts the first header found unmarked.
+     * Concurrent callers may briefly push the cache slightly over its bound.
+     */
+    private void evictOverflow() {
+        while (cache.size() > MAX_CACHED_HEADERS) {
+            for (Map.Entry<String, CachedLocale> entry : cache.entrySet()) {
+                if (!entry.getValue().clearUsed() && cache.remove(entry.getKey(), entry.getValue())) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the result for a header is cached, without counting as a use of the entry.
+     *
+     * @param acceptLanguage the header value
+     * @return true if the header is cached
+     */
+    boolean isCached(String acceptLanguage) {
+        return cache.containsKey(acceptLanguage);
+    }
+
+    /**
+     * Get the number of cached headers.
+     *
+     * @return the cache size
+     */
+    int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Parse a header and match its language ranges in order of preference.
+     * Each range is tried as given first, then truncated to its language.
+     *
+     * @param acceptLanguage the header value
+     * @return the matching loaded locale, or the default locale if none matches
+     */
+    private Locale match(String acceptLanguage) {
+        for (String range : parseRanges(acceptLanguage)) {
+            if ("*".equals(range)) {
+                return defaultLocale;
+            }
+
+            Locale requested = Locale.forLanguageTag(range);
+            String language = requested.getLanguage();
+            if (language.isEmpty()) {
+                continue;
+            }
+
+            String localeName = Lingon.toDirectoryName(requested);
+            if (loadedLocales.contains(localeName)) {
+                return toLocale(localeName);
+            }
+
+            String languageMatch = localesByLanguage.get(language);
+            if (languageMatch != null) {
+                return toLocale(languageMatch);
+            }
+        }
+        return defaultLocale;
+    }
+
+    /**
+     * Parse the language ranges of a header, ordered by descending quality.
+     * Ranges with a zero quality, or a quality that is not a number between 0 and 1 with at most
+     * three decimals, are dropped; equal qualities keep the header order.
+     *
+     * @param acceptLanguage the header value
+     * @return the language ranges
+     */
+    private static List<String> parseRanges(String acceptLanguage) {
+        List<String> ranges = new ArrayList<>();
+        List<Double> qualities = new ArrayList<>();
+
+        for (String part : acceptLanguage.split(",")) {
+            String[] parameters = part.split(";");
+            String range = parameters[0].trim();
+            if (range.isEmpty()) {
+                continue;
+            }
+
+            double quality = 1.0;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    String value = parameter.substring(2).trim();
+                    quality = QUALITY_PATTERN.matcher(value).matches() ? Double.parseDouble(value) : 0;
+                }
+            }
+            if (quality <= 0) {
+                continue;
+            }
+
+            ranges.add(range);
+            qualities.add(quality);
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(qualities::get, Comparator.reverseOrder()));
+
+        List<String> sorted = new ArrayList<>(order.size());
+        for (int index : order) {
+            sorted.add(ranges.get(index));
+        }
+        return sorted;
+    }
+
+    /**
+     * Get the language part of a locale directory name.
+     *
+     * @param localeName the locale directory name (e.g., "en_US")
+     * @return the language (e.g., "en")
+     */
+    private static String languageOf(String localeName) {
+        int separator = localeName.indexOf('_');
+        return separator < 0 ? localeName : localeName.substring(0, separator);
+    }
+
+    /**
+     * A cached negotiation result with a mark telling whether it was used since the last eviction pass.
+     */
+    private static final class CachedLocale {
+        private final Locale locale;
+        private volatile boolean used;
+
+        /**
+         * Creates a new cached result, marked as used so the eviction pass following its insertion skips it.
+         *
+         * @param locale the negotiated locale
+         */
+        private CachedLocale(Locale locale) {
+            this.locale = locale;
+            this.used = true;
+        }
+
+        /**
+         * Mark this result as used, skipping the write if it already is.
+         */
+        private void markUsed() {
+            if (!used) {
+                used = true;
+            }
+        }
+
+        /**
+         * Clear the mark.
+         *
+         * @return true if the result was used since the last eviction pass
+         */
+        private boolean clearUsed() {
+            if (!used) {
+                return false;
+            }
+            used = false;
+            return true;
+        }
+    }
+
+    /**
+     * Convert a locale directory name to a locale.
+     *
+     * @param localeName the locale directory name (e.g., "en_US")
+     * @return the locale
+     */
+    private static Locale toLocale(String localeName) {
+        int separator = localeName.indexOf('_');
+        return separator < 0
+                ? new Locale(localeName)
+                : new Locale(localeName.substring(0, separator), localeName.substring(separator + 1));
+    }
+}
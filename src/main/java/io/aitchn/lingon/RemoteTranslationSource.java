@@ -0,0 +1,247 @@
+package io.aitchn.lingon;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A versioned {@link TranslationSource} backed by a remote bundle.
+ * The bundle is a single JSON object mapping locale directory names to dotted file names to file contents:
+ * <pre>{@code
+ * { "en_US": { "ui": { "main": { "title": "Title" } }, "command.help": { ... } } }
+ * }</pre>
+ * The version of a snapshot is the ETag returned by the {@link Transport}. When the last ETag is known,
+ * it is sent along with the request so the remote side can answer "not modified".
+ *
+ * <p>The bundle can only be fetched as a whole, so the last one is kept and revalidated with its ETag
+ * when locales are listed or fetched one at a time; listing the locales and then fetching each of them
+ * downloads the bundle once. A remote side without ETags is downloaded on every call.</p>
+ */
+public final class RemoteTranslationSource implements TranslationSource {
+    private final Transport transport;
+    private TranslationSnapshot lastBundle;
+
+    /**
+     * Creates a new remote source.
+     *
+     * @param transport the transport used to fetch the bundle
+     */
+    public RemoteTranslationSource(Transport transport) {
+        this.transport = Objects.requireNonNull(transport, "transport cannot be null");
+    }
+
+    /**
+     * Creates a remote source fetching the bundle over HTTP with conditional {@code If-None-Match} requests.
+     *
+     * @param uri the URI of the bundle
+     * @param timeout the connect and request timeout
+     * @return the remote source
+     */
+    public static RemoteTranslationSource http(URI uri, Duration timeout) {
+        Objects.requireNonNull(uri, "uri cannot be null");
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        return new RemoteTranslationSource(etag -> {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .header("Accept", "application/json")
+                    .GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+
+            HttpResponse<String> response;
+            try {
+                response = client.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while fetching " + uri);
+            }
+
+            if (response.statusCode() == 304) {
+                return Response.notModified();
+            }
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Unexpected status " + response.statusCode() + " from " + uri);
+            }
+            return Response.ok(response.headers().firstValue("ETag").orElse(null), response.body());
+        });
+    }
+
+    @Override
+    public TranslationSnapshot fetch(String knownVersion) throws IOException {
+        Response response = transport.send(knownVersion);
+        if (response.isNotModified()) {
+            if (knownVersion == null) {
+                throw new IOException("Remote answered not modified to an unconditional request");
+            }
+            return null;
+        }
+
+        TranslationSnapshot snapshot = new TranslationSnapshot(response.getEtag(), parseBundle(response.getBody()));
+        synchronized (this) {
+            lastBundle = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public Set<String> fetchLocaleNames() throws IOException {
+        return currentBundle().getLocales();
+    }
+
+    @Override
+    public Map<String, String> fetchLocale(String localeName) throws IOException {
+        return currentBundle().getDocuments(localeName);
+    }
+
+    /**
+     * Get the current bundle, reusing the last one if the remote side answers it is not modified.
+     *
+     * @return the current bundle
+     * @throws IOException if the request fails or the bundle is invalid
+     */
+    private synchronized TranslationSnapshot currentBundle() throws IOException {
+        String etag = lastBundle == null ? null : lastBundle.getVersion();
+        Response response = transport.send(etag);
+        if (response.isNotModified()) {
+            if (etag == null) {
+                throw new IOException("Remote answered not modified to an unconditional request");
+            }
+            return lastBundle;
+        }
+
+        lastBundle = new TranslationSnapshot(response.getEtag(), parseBundle(response.getBody()));
+        return lastBundle;
+    }
+
+    /**
+     * Split a bundle into documents.
+     *
+     * @param body the bundle JSON
+     * @return locale directory names to dotted file names to raw JSON contents
+     * @throws IOException if the bundle is not valid JSON or not shaped as expected
+     */
+    private static Map<String, Map<String, String>> parseBundle(String body) throws IOException {
+        Object root = LingonJson.parse(body);
+        if (!(root instanceof Map)) {
+            throw new IOException("Remote bundle must be a JSON object");
+        }
+
+        Map<String, Map<String, String>> documentsByLocale = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> locale : ((Map<?, ?>) root).entrySet()) {
+            if (!(locale.getValue() instanceof Map)) {
+                throw new IOException("Remote bundle locale '" + locale.getKey() + "' must be a JSON object");
+            }
+
+            Map<String, String> documents = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> file : ((Map<?, ?>) locale.getValue()).entrySet()) {
+                documents.put((String) file.getKey(), LingonJson.write(file.getValue()));
+            }
+            documentsByLocale.put((String) locale.getKey(), documents);
+        }
+        return documentsByLocale;
+    }
+
+    /**
+     * Performs the actual request for a {@link RemoteTranslationSource}.
+     * Implement this to use a different protocol or to stand in for the remote side in tests.
+     */
+    @FunctionalInterface
+    public interface Transport {
+
+        /**
+         * Request the bundle.
+         *
+         * @param etag the ETag of the last fetched bundle, or null to request it unconditionally
+         * @return the response
+         * @throws IOException if the request fails
+         */
+        Response send(String etag) throws IOException;
+    }
+
+    /**
+     * A response of a {@link Transport}.
+     */
+    public static final class Response {
+        private static final Response NOT_MODIFIED = new Response(true, null, null);
+
+        private final boolean notModified;
+        private final String etag;
+        private final String body;
+
+        /**
+         * Creates a new response.
+         *
+         * @param notModified whether the bundle matches the requested ETag
+         * @param etag the ETag of the bundle
+         * @param body the bundle JSON
+         */
+        private Response(boolean notModified, String etag, String body) {
+            this.notModified = notModified;
+            this.etag = etag;
+            this.body = body;
+        }
+
+        /**
+         * Create a response telling that the bundle matches the requested ETag.
+         *
+         * @return the response
+         */
+        public static Response notModified() {
+            return NOT_MODIFIED;
+        }
+
+        /**
+         * Create a response carrying a bundle.
+         *
+         * @param etag the ETag of the bundle, or null if the remote side does not provide one
+         * @param body the bundle JSON
+         * @return the response
+         */
+        public static Response ok(String etag, String body) {
+            return new Response(false, etag, Objects.requireNonNull(body, "body cannot be null"));
+        }
+
+        /**
+         * Check if the bundle matches the requested ETag.
+         *
+         * @return true if the bundle is unchanged
+         */
+        public boolean isNotModified() {
+            return notModified;
+        }
+
+        /**
+         * Get the ETag of the bundle.
+         *
+         * @return the ETag, or null if unknown
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Get the bundle JSON.
+         *
+         * @return the bundle JSON, or null for a not modified response
+         */
+        public String getBody() {
+            return body;
+        }
+    }
+}
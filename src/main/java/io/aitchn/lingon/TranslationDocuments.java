@@ -0,0 +1,139 @@
+package io.aitchn.lingon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class shared by the built-in {@link TranslationSource} implementations.
+ */
+final class TranslationDocuments {
+    static final String LANGUAGES_DIRECTORY = "languages";
+    private static final Pattern LOCALE_DIRECTORY_PATTERN = Pattern.compile("^[a-z]{2}_[A-Z]{2}$");
+
+    private TranslationDocuments() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Check if a directory name is a locale directory name.
+     *
+     * @param name the directory name to check
+     * @return true if the name looks like "xx_YY"
+     */
+    static boolean isLocaleName(String name) {
+        return LOCALE_DIRECTORY_PATTERN.matcher(name).matches();
+    }
+
+    /**
+     * Check if a file name represents a JSON file.
+     *
+     * @param fileName the file name to check
+     * @return true if the file name ends with ".json"
+     */
+    static boolean isJsonFile(String fileName) {
+        return fileName.toLowerCase(Locale.ROOT).endsWith(".json");
+    }
+
+    /**
+     * Convert a relative file path to a dotted name format.
+     *
+     * @param relativePath the relative path to convert, using '/' or '\' separators
+     * @return the dotted name (e.g., "command/help.json" -> "command.help")
+     */
+    static String toDottedName(String relativePath) {
+        String name = relativePath.replace('\\', '/');
+        if (isJsonFile(name)) {
+            name = name.substring(0, name.length() - 5);
+        }
+        return name.replace('/', '.');
+    }
+
+    /**
+     * Read a stream fully as UTF-8 text.
+     *
+     * @param inputStream the stream to read
+     * @return the text content
+     * @throws IOException if reading fails
+     */
+    static String readUtf8(InputStream inputStream) throws IOException {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compute a version tag from documents by hashing their names and contents.
+     *
+     * @param documentsByLocale locale directory names to dotted file names to contents
+     * @return a hex encoded SHA-256 digest
+     */
+    static String digest(Map<String, Map<String, String>> documentsByLocale) {
+        MessageDigest messageDigest = newDigest();
+        for (Map.Entry<String, Map<String, String>> locale : new TreeMap<>(documentsByLocale).entrySet()) {
+            update(messageDigest, locale.getKey());
+            for (Map.Entry<String, String> document : new TreeMap<>(locale.getValue()).entrySet()) {
+                update(messageDigest, document.getKey());
+                update(messageDigest, document.getValue());
+            }
+        }
+        return toHex(messageDigest.digest());
+    }
+
+    /**
+     * Compute a version tag by hashing a sequence of strings.
+     *
+     * @param parts the strings to hash, in a stable order
+     * @return a hex encoded SHA-256 digest
+     */
+    static String digest(Iterable<String> parts) {
+        MessageDigest messageDigest = newDigest();
+        for (String part : parts) {
+            update(messageDigest, part);
+        }
+        return toHex(messageDigest.digest());
+    }
+
+    /**
+     * Create a new SHA-256 message digest.
+     *
+     * @return the message digest
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Feed a string followed by a separator into a message digest.
+     *
+     * @param messageDigest the digest to update
+     * @param value the string to add
+     */
+    private static void update(MessageDigest messageDigest, String value) {
+        messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+
+    /**
+     * Encode bytes as lowercase hex.
+     *
+     * @param bytes the bytes to encode
+     * @return the hex string
+     */
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package io.aitchn.lingon;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable set of translation documents fetched from a {@link TranslationSource}.
+ */
+public final class TranslationSnapshot {
+    private final String version;
+    private final Map<String, Map<String, String>> documentsByLocale;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param version the version tag of the documents (e.g., an ETag), or null if unknown
+     * @param documentsByLocale locale directory names to dotted file names to raw JSON contents
+     */
+    public TranslationSnapshot(String version, Map<String, Map<String, String>> documentsByLocale) {
+        Objects.requireNonNull(documentsByLocale, "documentsByLocale cannot be null");
+
+        Map<String, Map<String, String>> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : documentsByLocale.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(entry.getValue())));
+        }
+        this.version = version;
+        this.documentsByLocale = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Get the version tag of this snapshot.
+     *
+     * @return the version tag, or null if the source does not provide one
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the locale directory names contained in this snapshot.
+     *
+     * @return an unmodifiable set of locale directory names
+     */
+    public Set<String> getLocales() {
+        return documentsByLocale.keySet();
+    }
+
+    /**
+     * Get the documents of a locale.
+     *
+     * @param localeName the locale directory name
+     * @return an unmodifiable map of dotted file names to raw JSON contents, empty if the locale is absent
+     */
+    public Map<String, String> getDocuments(String localeName) {
+        return documentsByLocale.getOrDefault(localeName, Map.of());
+    }
+
+    /**
+     * Get all documents of this snapshot.
+     *
+     * @return an unmodifiable map of locale directory names to documents
+     */
+    public Map<String, Map<String, String>> getDocuments() {
+        return documentsByLocale;
+    }
+}
@@ -0,0 +1,58 @@
+package io.aitchn.lingon;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A source of translation documents for {@link Lingon}.
+ * Documents are the raw JSON contents of translation files, grouped by locale directory name
+ * (e.g., "en_US") and keyed by dotted file name (e.g., "command.help").
+ *
+ * <p>Implementations are called from a background thread and must be thread-safe.</p>
+ *
+ * @see FileSystemTranslationSource
+ * @see ClasspathTranslationSource
+ * @see InMemoryTranslationSource
+ * @see RemoteTranslationSource
+ */
+public interface TranslationSource {
+
+    /**
+     * Fetch all documents of this source.
+     * When the source can tell that its contents still match {@code knownVersion},
+     * it should return null instead of reading the documents again.
+     *
+     * @param knownVersion the version of the last fetched snapshot, or null to force a full fetch
+     * @return the current snapshot, or null if the contents are unchanged
+     * @throws IOException if the documents cannot be read
+     */
+    TranslationSnapshot fetch(String knownVersion) throws IOException;
+
+    /**
+     * List the locale directory names this source has documents for, without reading the documents.
+     * The default implementation fetches the full snapshot and takes its locales.
+     *
+     * @return an unmodifiable set of locale directory names
+     * @throws IOException if the locales cannot be listed
+     */
+    default Set<String> fetchLocaleNames() throws IOException {
+        TranslationSnapshot snapshot = fetch(null);
+        return snapshot == null ? Set.of() : snapshot.getLocales();
+    }
+
+    /**
+     * Fetch the documents of a single locale.
+     * The default implementation fetches the full snapshot and picks the locale from it.
+     * {@link Lingon#initializeAsync(TranslationSource, java.util.Locale)} reads the locales one at a time
+     * only if this method is overridden; otherwise it fetches the full snapshot once.
+     *
+     * @param localeName the locale directory name (e.g., "en_US")
+     * @return an unmodifiable map of dotted file names to raw JSON contents, empty if the locale has no data
+     * @throws IOException if the documents cannot be read
+     */
+    default Map<String, String> fetchLocale(String localeName) throws IOException {
+        TranslationSnapshot snapshot = fetch(null);
+        return snapshot == null ? Map.of() : snapshot.getDocuments(localeName);
+    }
+}
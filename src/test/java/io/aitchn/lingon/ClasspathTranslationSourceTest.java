@@ -0,0 +1,154 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link ClasspathTranslationSource} against a directory root and a JAR root behind a {@link URLClassLoader}.
+ */
+class ClasspathTranslationSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Create a directory root with English documents.
+     */
+    private Path directoryRoot() throws IOException {
+        Path root = tempDir.resolve("classes");
+        write(root.resolve("languages/en_US/ui.json"), "{\"title\":\"Directory\"}");
+        write(root.resolve("languages/en_US/command/help.json"), "{\"usage\":\"help\"}");
+        write(root.resolve("languages/en_US/notes.txt"), "not a translation");
+        return root;
+    }
+
+    /**
+     * Create a JAR root with English and Traditional Chinese documents, and entries that are not translations.
+     */
+    private Path jarRoot() throws IOException {
+        Path jar = tempDir.resolve("translations.jar");
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+            putEntry(output, "languages/", null);
+            putEntry(output, "languages/en_US/", null);
+            putEntry(output, "languages/en_US/ui.json", "{\"title\":\"Jar\"}");
+            putEntry(output, "languages/zh_TW/ui.json", "{\"title\":\"標題\"}");
+            putEntry(output, "languages/misc/ui.json", "{\"title\":\"ignored\"}");
+            putEntry(output, "languages/README.json", "{}");
+            putEntry(output, "other/ja_JP/ui.json", "{\"title\":\"ignored\"}");
+        }
+        return jar;
+    }
+
+    /**
+     * Write a file, creating its parent directories.
+     */
+    private static void write(Path file, String contents) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, contents, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Add an entry to a JAR file, a directory entry if the contents are null.
+     */
+    private static void putEntry(JarOutputStream output, String name, String contents) throws IOException {
+        output.putNextEntry(new JarEntry(name));
+        if (contents != null) {
+            output.write(contents.getBytes(StandardCharsets.UTF_8));
+        }
+        output.closeEntry();
+    }
+
+    /**
+     * Create a class loader over the given roots, without a parent so only these roots are visible.
+     */
+    private static URLClassLoader loader(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+
+    @Test
+    void readsDirectoryRoots() throws IOException {
+        try (URLClassLoader loader = loader(directoryRoot())) {
+            TranslationSnapshot snapshot = new ClasspathTranslationSource(loader).fetch(null);
+
+            assertEquals(Set.of("en_US"), snapshot.getLocales());
+            assertEquals(Map.of("ui", "{\"title\":\"Directory\"}", "command.help", "{\"usage\":\"help\"}"),
+                    snapshot.getDocuments("en_US"));
+        }
+    }
+
+    @Test
+    void readsJarRootsAndSkipsEntriesOutsideLocaleDirectories() throws IOException {
+        try (URLClassLoader loader = loader(jarRoot())) {
+            ClasspathTranslationSource source = new ClasspathTranslationSource(loader);
+            TranslationSnapshot snapshot = source.fetch(null);
+
+            assertEquals(Set.of("en_US", "zh_TW"), snapshot.getLocales());
+            assertEquals(Map.of("ui", "{\"title\":\"標題\"}"), snapshot.getDocuments("zh_TW"));
+            assertEquals(Set.of("en_US", "zh_TW"), source.fetchLocaleNames());
+            assertEquals(Map.of("ui", "{\"title\":\"Jar\"}"), source.fetchLocale("en_US"));
+            assertEquals(Map.of(), source.fetchLocale("ja_JP"));
+        }
+    }
+
+    @Test
+    void firstRootWinsForTheSameDocument() throws IOException {
+        Path directory = directoryRoot();
+        Path jar = jarRoot();
+
+        try (URLClassLoader loader = loader(directory, jar)) {
+            ClasspathTranslationSource source = new ClasspathTranslationSource(loader);
+
+            assertEquals("{\"title\":\"Directory\"}", source.fetch(null).getDocuments("en_US").get("ui"));
+            assertEquals("{\"title\":\"Directory\"}", source.fetchLocale("en_US").get("ui"));
+            assertEquals("{\"usage\":\"help\"}", source.fetchLocale("en_US").get("command.help"));
+            assertEquals(Set.of("en_US", "zh_TW"), source.fetchLocaleNames());
+        }
+        try (URLClassLoader loader = loader(jar, directory)) {
+            assertEquals("{\"title\":\"Jar\"}", new ClasspathTranslationSource(loader).fetchLocale("en_US").get("ui"));
+        }
+    }
+
+    @Test
+    void skipsUnchangedContents() throws IOException {
+        try (URLClassLoader loader = loader(directoryRoot(), jarRoot())) {
+            ClasspathTranslationSource source = new ClasspathTranslationSource(loader);
+            String version = source.fetch(null).getVersion();
+
+            assertNull(source.fetch(version));
+            write(tempDir.resolve("classes/languages/en_US/ui.json"), "{\"title\":\"Changed\"}");
+            TranslationSnapshot changed = source.fetch(version);
+            assertNotNull(changed);
+            assertNotEquals(version, changed.getVersion());
+        }
+    }
+
+    @Test
+    void readsACustomRootDirectory() throws IOException {
+        Path root = tempDir.resolve("custom");
+        write(root.resolve("i18n/en_US/ui.json"), "{\"title\":\"Custom\"}");
+
+        try (URLClassLoader loader = loader(root)) {
+            ClasspathTranslationSource source = new ClasspathTranslationSource(loader, "i18n/");
+
+            assertEquals(Set.of("en_US"), source.fetchLocaleNames());
+            assertEquals(Map.of("ui", "{\"title\":\"Custom\"}"), source.fetchLocale("en_US"));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link FileSystemTranslationSource} and its fingerprint-based skipping of unchanged trees.
+ */
+class FileSystemTranslationSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Write a language file below the temporary directory.
+     */
+    private Path write(String relativePath, String contents) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, contents, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void readsLocaleDirectories() throws IOException {
+        write("en_US/ui.json", "{\"title\":\"Title\"}");
+        write("en_US/command/help.json", "{\"usage\":\"help\"}");
+        write("zh_TW/ui.json", "{\"title\":\"標題\"}");
+        write("misc/ui.json", "{}");
+        write("en_US/notes.txt", "not a translation");
+        FileSystemTranslationSource source = new FileSystemTranslationSource(tempDir);
+
+        assertEquals(Set.of("en_US", "zh_TW"), source.fetch(null).getLocales());
+        assertEquals(Set.of("en_US", "zh_TW"), source.fetchLocaleNames());
+        assertEquals(Map.of("ui", "{\"title\":\"Title\"}", "command.help", "{\"usage\":\"help\"}"),
+                source.fetchLocale("en_US"));
+        assertEquals(Map.of(), source.fetchLocale("ja_JP"));
+    }
+
+    @Test
+    void skipsAnUntouchedTree() throws IOException {
+        write("en_US/ui.json", "{\"title\":\"Title\"}");
+        FileSystemTranslationSource source = new FileSystemTranslationSource(tempDir);
+        String version = source.fetch(null).getVersion();
+
+        assertNull(source.fetch(version));
+        assertNull(source.fetch(version));
+        assertNotNull(source.fetch("other"));
+    }
+
+    @Test
+    void picksUpAChangedSize() throws IOException {
+        Path file = write("en_US/ui.json", "{\"title\":\"Title\"}");
+        FileSystemTranslationSource source = new FileSystemTranslationSource(tempDir);
+        String version = source.fetch(null).getVersion();
+        FileTime modified = Files.getLastModifiedTime(file);
+
+        // Keep the modification time, so only the size tells the change apart
+        Files.writeString(file, "{\"title\":\"Longer title\"}", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, modified);
+
+        TranslationSnapshot snapshot = source.fetch(version);
+        assertNotNull(snapshot);
+        assertEquals("{\"title\":\"Longer title\"}", snapshot.getDocuments("en_US").get("ui"));
+    }
+
+    @Test
+    void picksUpAChangedModificationTime() throws IOException {
+        Path file = write("en_US/ui.json", "{\"title\":\"Title\"}");
+        FileSystemTranslationSource source = new FileSystemTranslationSource(tempDir);
+        String version = source.fetch(null).getVersion();
+
+        // Same size, different contents and modification time
+        Files.writeString(file, "{\"title\":\"Eltit\"}", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 60_000));
+
+        TranslationSnapshot snapshot = source.fetch(version);
+        assertNotNull(snapshot);
+        assertEquals("{\"title\":\"Eltit\"}", snapshot.getDocuments("en_US").get("ui"));
+    }
+
+    @Test
+    void picksUpAddedAndRemovedFiles() throws IOException {
+        Path file = write("en_US/ui.json", "{\"title\":\"Title\"}");
+        FileSystemTranslationSource source = new FileSystemTranslationSource(tempDir);
+        String version = source.fetch(null).getVersion();
+
+        write("zh_TW/ui.json", "{\"title\":\"標題\"}");
+        TranslationSnapshot added = source.fetch(version);
+        assertNotNull(added);
+        assertEquals(Set.of("en_US", "zh_TW"), added.getLocales());
+
+        Files.delete(file);
+        TranslationSnapshot removed = source.fetch(added.getVersion());
+        assertNotNull(removed);
+        assertEquals(Map.of(), removed.getDocuments("en_US"));
+    }
+
+    @Test
+    void missingDirectoryHasNoLocales() throws IOException {
+        FileSystemTranslationSource source = new FileSystemTranslationSource(tempDir.resolve("missing"));
+
+        assertEquals(Set.of(), source.fetch(null).getLocales());
+        assertEquals(Set.of(), source.fetchLocaleNames());
+        assertEquals(Map.of(), source.fetchLocale("en_US"));
+    }
+}
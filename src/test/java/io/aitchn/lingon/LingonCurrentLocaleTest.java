@@ -0,0 +1,114 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the thread-bound locale of {@link Lingon#runWithLocale(Locale, Runnable)},
+ * {@link Lingon#withLocale(Locale, java.util.function.Supplier)} and {@link Lingon#current()}.
+ */
+class LingonCurrentLocaleTest {
+    private InMemoryTranslationSource source;
+    private Lingon lingon;
+
+    @BeforeEach
+    void createLingon() {
+        source = new InMemoryTranslationSource()
+                .put("en_US", "ui", "{\"title\":\"Title\"}")
+                .put("zh_TW", "ui", "{\"title\":\"標題\"}")
+                .put("ja_JP", "ui", "{\"title\":\"タイトル\"}");
+        lingon = Lingon.getInstance(source, Locale.US);
+    }
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    /**
+     * Look up the title through the current locale view.
+     *
+     * @return the title
+     */
+    private static String currentTitle() {
+        return Lingon.current().get("ui", "title").raw();
+    }
+
+    @Test
+    void currentReturnsTheDefaultLocaleViewWhenNothingIsBound() {
+        assertEquals(Locale.US, Lingon.current().getLocale());
+        assertEquals("Title", currentTitle());
+
+        lingon.setDefaultLocale(Locale.TAIWAN);
+        assertEquals("標題", currentTitle());
+    }
+
+    @Test
+    void nestedBindingsRestoreTheOuterView() {
+        lingon.runWithLocale(Locale.TAIWAN, () -> {
+            LingonLocale outer = Lingon.current();
+            assertEquals("標題", currentTitle());
+
+            String inner = lingon.withLocale(Locale.JAPAN, LingonCurrentLocaleTest::currentTitle);
+            assertEquals("タイトル", inner);
+
+            assertSame(outer, Lingon.current());
+            assertEquals("標題", currentTitle());
+        });
+
+        assertEquals("Title", currentTitle());
+    }
+
+    @Test
+    void bindingIsRemovedWhenTheActionThrows() {
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> lingon.runWithLocale(Locale.TAIWAN, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+        assertEquals("boom", thrown.getMessage());
+        assertEquals(Locale.US, Lingon.current().getLocale());
+
+        lingon.runWithLocale(Locale.JAPAN, () -> {
+            assertThrows(IllegalStateException.class, () -> lingon.withLocale(Locale.TAIWAN, () -> {
+                throw new IllegalStateException("boom");
+            }));
+            assertEquals("タイトル", currentTitle());
+        });
+    }
+
+    @Test
+    void bindingIsNotVisibleFromThreadsStartedInsideTheAction() throws InterruptedException {
+        AtomicReference<String> seen = new AtomicReference<>();
+        Thread[] thread = new Thread[1];
+
+        lingon.runWithLocale(Locale.TAIWAN, () -> {
+            thread[0] = new Thread(() -> seen.set(currentTitle()));
+            thread[0].start();
+        });
+        thread[0].join(5000);
+
+        assertEquals("Title", seen.get());
+    }
+
+    @Test
+    void boundViewKeepsItsSnapshotAcrossAReload() {
+        lingon.runWithLocale(Locale.TAIWAN, () -> {
+            LingonLocale bound = Lingon.current();
+
+            source.put("zh_TW", "ui", "{\"title\":\"新標題\"}");
+            lingon.reload();
+
+            assertSame(bound, Lingon.current());
+            assertEquals("標題", currentTitle());
+            assertEquals("新標題", lingon.get(Locale.TAIWAN, "ui").get("title").raw());
+        });
+
+        assertEquals("新標題", lingon.withLocale(Locale.TAIWAN, LingonCurrentLocaleTest::currentTitle));
+    }
+}
@@ -0,0 +1,205 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static io.aitchn.lingon.LingonChange.Type.ADDED;
+import static io.aitchn.lingon.LingonChange.Type.MODIFIED;
+import static io.aitchn.lingon.LingonChange.Type.REMOVED;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link LingonDiff} and the change events {@link Lingon} publishes from it.
+ */
+class LingonDiffTest {
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    /**
+     * Build a catalog of a single locale from raw JSON documents.
+     */
+    private static LingonCatalog catalog(String locale, Map<String, String> documents) throws IOException {
+        return new LingonCatalog(null, Map.of(locale, data(documents)));
+    }
+
+    /**
+     * Build locale data from raw JSON documents.
+     */
+    private static LingonCatalog.LocaleData data(Map<String, String> documents) throws IOException {
+        Map<String, Object> texts = new LinkedHashMap<>();
+        for (Map.Entry<String, String> document : documents.entrySet()) {
+            texts.put(document.getKey(), LingonJson.parse(document.getValue()));
+        }
+        return new LingonCatalog.LocaleData(texts, Map.of(), Map.of());
+    }
+
+    /**
+     * Create an expected change in the "en_US" locale.
+     */
+    private static LingonChange change(LingonChange.Type type, String file, String key) {
+        return new LingonChange(type, "en_US", file, key);
+    }
+
+    @Test
+    void reportsAddedRemovedAndModifiedLeaves() throws IOException {
+        LingonCatalog previous = catalog("en_US", Map.of("ui", "{\"title\":\"A\",\"old\":\"x\",\"items\":[\"a\",\"b\"]}"));
+        LingonCatalog next = catalog("en_US", Map.of("ui", "{\"title\":\"B\",\"new\":\"y\",\"items\":[\"a\"]}"));
+
+        List<LingonChange> changes = LingonDiff.diff(previous, next, "en_US");
+
+        assertEquals(4, changes.size());
+        assertTrue(changes.contains(change(MODIFIED, "ui", "title")));
+        assertTrue(changes.contains(change(REMOVED, "ui", "old")));
+        assertTrue(changes.contains(change(ADDED, "ui", "new")));
+        assertTrue(changes.contains(change(REMOVED, "ui", "items[1]")));
+    }
+
+    @Test
+    void reportsScalarTypeChangesAsModified() throws IOException {
+        LingonCatalog previous = catalog("en_US", Map.of("ui", "{\"count\":1}"));
+        LingonCatalog next = catalog("en_US", Map.of("ui", "{\"count\":\"1\"}"));
+
+        assertEquals(List.of(change(MODIFIED, "ui", "count")), LingonDiff.diff(previous, next, "en_US"));
+    }
+
+    @Test
+    void reportsShapeChangesAsRemovedAndAddedLeaves() throws IOException {
+        LingonCatalog previous = catalog("en_US", Map.of("ui", "{\"menu\":\"Menu\",\"items\":{\"a\":\"A\"}}"));
+        LingonCatalog next = catalog("en_US", Map.of("ui", "{\"menu\":{\"file\":\"File\"},\"items\":[\"A\"]}"));
+
+        assertEquals(List.of(
+                change(REMOVED, "ui", "menu"),
+                change(ADDED, "ui", "menu.file"),
+                change(REMOVED, "ui", "items.a"),
+                change(ADDED, "ui", "items[0]")
+        ), LingonDiff.diff(previous, next, "en_US"));
+    }
+
+    @Test
+    void reportsEveryLeafOfARemovedLocaleOrFile() throws IOException {
+        LingonCatalog previous = catalog("en_US", Map.of("ui", "{\"a\":\"A\",\"b\":{\"c\":\"C\"}}"));
+
+        assertEquals(List.of(change(REMOVED, "ui", "a"), change(REMOVED, "ui", "b.c")),
+                LingonDiff.diff(previous, LingonCatalog.EMPTY, "en_US"));
+        assertEquals(List.of(change(ADDED, "ui", "a"), change(ADDED, "ui", "b.c")),
+                LingonDiff.diff(LingonCatalog.EMPTY, previous, "en_US"));
+    }
+
+    @Test
+    void reportsNothingForEqualData() throws IOException {
+        LingonCatalog previous = catalog("en_US", Map.of("ui", "{\"a\":\"A\",\"n\":[1,2.5,null]}"));
+        LingonCatalog next = catalog("en_US", Map.of("ui", "{\"a\":\"A\",\"n\":[1,2.5,null]}"));
+
+        assertTrue(LingonDiff.diff(previous, next, "en_US").isEmpty());
+        assertTrue(LingonDiff.diff(previous, previous, "en_US").isEmpty());
+    }
+
+    @Test
+    void reportsDefaultLocaleChangesForLocalesFallingBackToIt() throws IOException {
+        LingonCatalog.LocaleData chinese = data(Map.of("ui", "{\"title\":\"標題\"}"));
+        LingonCatalog previous = new LingonCatalog(null, Map.of(
+                "en_US", data(Map.of("ui", "{\"title\":\"Title\",\"ok\":\"OK\"}")), "zh_TW", chinese));
+        LingonCatalog next = new LingonCatalog(null, Map.of(
+                "en_US", data(Map.of("ui", "{\"title\":\"Heading\",\"ok\":\"Okay\"}")), "zh_TW", chinese));
+
+        List<LingonChange> changes = LingonDiff.diff(previous, next, "en_US");
+
+        // zh_TW defines its own title, but renders the default locale's "ok"
+        assertEquals(3, changes.size());
+        assertTrue(changes.contains(change(MODIFIED, "ui", "title")));
+        assertTrue(changes.contains(change(MODIFIED, "ui", "ok")));
+        assertTrue(changes.contains(new LingonChange(MODIFIED, "zh_TW", "ui", "ok")));
+        assertEquals(2, LingonDiff.diff(previous, next, null).size());
+    }
+
+    @Test
+    void reportsValuesRenderedThroughANewDefaultLocale() throws IOException {
+        LingonCatalog catalog = new LingonCatalog(null, Map.of(
+                "en_US", data(Map.of("ui", "{\"title\":\"Title\",\"ok\":\"OK\"}")),
+                "fr", data(Map.of("ui", "{\"title\":\"Titre\",\"cancel\":\"Annuler\"}")),
+                "zh_TW", data(Map.of("ui", "{\"title\":\"標題\"}"))));
+
+        List<LingonChange> changes = LingonDiff.diffDefaultLocale(catalog, "en_US", "fr");
+
+        assertEquals(Set.of(
+                // en_US now falls back to fr for the keys it lacks
+                change(ADDED, "ui", "cancel"),
+                // fr no longer falls back to en_US
+                new LingonChange(REMOVED, "fr", "ui", "ok"),
+                new LingonChange(REMOVED, "zh_TW", "ui", "ok"),
+                new LingonChange(ADDED, "zh_TW", "ui", "cancel")
+        ), Set.copyOf(changes));
+        assertEquals(4, changes.size());
+        assertTrue(LingonDiff.diffDefaultLocale(catalog, "en_US", "en_US").isEmpty());
+    }
+
+    @Test
+    void publishesAnEventWhenTheDefaultLocaleChanges() throws Exception {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("en_US", "ui", "{\"title\":\"Title\",\"ok\":\"OK\"}")
+                .put("zh_TW", "ui", "{\"title\":\"標題\",\"ok\":\"好\"}");
+        Lingon lingon = Lingon.getInstance(source, Locale.US);
+        BlockingQueue<LingonChangeEvent> events = new LinkedBlockingQueue<>();
+        lingon.addChangeListener(events::add);
+
+        lingon.setDefaultLocale(Locale.US);
+        lingon.setDefaultLocale(Locale.TAIWAN);
+
+        // Both locales define every key, so no value changes, but the switch itself is reported
+        LingonChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertTrue(event.isDefaultLocaleChanged());
+        assertTrue(event.getChanges().isEmpty());
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+
+        source.put("zh_TW", "ui", "{\"title\":\"新標題\",\"ok\":\"好\"}").remove("en_US", "ui");
+        source.put("en_US", "ui", "{\"title\":\"Title\"}");
+        lingon.reload();
+
+        event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertFalse(event.isDefaultLocaleChanged());
+        assertEquals(Set.of(
+                new LingonChange(MODIFIED, "zh_TW", "ui", "title"),
+                new LingonChange(REMOVED, "en_US", "ui", "ok")
+        ), Set.copyOf(event.getChanges()));
+    }
+
+    @Test
+    void publishesNoEventWhenReloadedContentsAreIdentical() throws Exception {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("en_US", "ui", "{\"title\":\"One\"}")
+                .put("zh_TW", "ui", "{\"title\":\"一\"}");
+        Lingon lingon = Lingon.getInstance(source, Locale.US);
+        BlockingQueue<LingonChangeEvent> events = new LinkedBlockingQueue<>();
+        lingon.addChangeListener(events::add);
+
+        // Same contents under a new source version: nothing to report
+        source.put("en_US", "ui", "{\"title\":\"One\"}");
+        lingon.reload();
+
+        source.remove("zh_TW", "ui");
+        lingon.reload();
+
+        // Events are delivered in order, so the first one must be the locale removal
+        LingonChangeEvent event = events.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertEquals(List.of(new LingonChange(REMOVED, "zh_TW", "ui", "title")), event.getChanges());
+        assertTrue(event.affects("zh_TW", "ui"));
+        assertFalse(event.affects("en_US", "ui"));
+        assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,162 @@
+package io.aitchn.lingon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the built-in JSON reader and writer {@link LingonJson}, including that values render
+ * exactly as the Jackson trees Lingon used to read files with.
+ */
+class LingonJsonTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void readsEscapesAndSurrogatePairs() throws IOException {
+        assertEquals("a\"b\\c/d\b\f\n\r\t", LingonJson.parse("\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\""));
+        assertEquals("é中", LingonJson.parse("\"\\u00e9\\u4E2D\""));
+        assertEquals("\uD83D\uDE00", LingonJson.parse("\"\\ud83d\\ude00\""));
+        assertEquals("\uD83D\uDE00", LingonJson.parse("\"\uD83D\uDE00\""));
+    }
+
+    @Test
+    void rejectsInvalidStrings() {
+        assertThrows(IOException.class, () -> LingonJson.parse("\"\\q\""));
+        assertThrows(IOException.class, () -> LingonJson.parse("\"\\u12G4\""));
+        assertThrows(IOException.class, () -> LingonJson.parse("\"a\nb\""));
+        assertThrows(IOException.class, () -> LingonJson.parse("\"unterminated"));
+    }
+
+    @Test
+    void readsIntegralNumbersIntoTheSmallestFittingType() throws IOException {
+        assertEquals(0, LingonJson.parse("-0"));
+        assertEquals(Integer.MAX_VALUE, LingonJson.parse("2147483647"));
+        assertEquals(Integer.MIN_VALUE, LingonJson.parse("-2147483648"));
+        assertEquals(2147483648L, LingonJson.parse("2147483648"));
+        assertEquals(Long.MAX_VALUE, LingonJson.parse("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, LingonJson.parse("-9223372036854775808"));
+        assertEquals(new BigInteger("9223372036854775808"), LingonJson.parse("9223372036854775808"));
+    }
+
+    @Test
+    void readsFractionsAndExponentsAsDoubles() throws IOException {
+        assertEquals(1.5, LingonJson.parse("1.5"));
+        assertEquals(100.0, LingonJson.parse("1e2"));
+        assertEquals(-0.025, LingonJson.parse("-2.5E-2"));
+    }
+
+    @Test
+    void rejectsInvalidNumbers() {
+        for (String json : List.of("01", "1.", ".5", "+1", "1e", "-", "NaN", "Infinity", "0x10")) {
+            assertThrows(IOException.class, () -> LingonJson.parse(json), json);
+        }
+    }
+
+    @Test
+    void keepsTheLastValueOfDuplicateKeysAtTheFirstPosition() throws IOException {
+        Object parsed = LingonJson.parse("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertEquals(Map.of("a", 3, "b", 2), parsed);
+        assertEquals(List.of("a", "b"), List.copyOf(((Map<?, ?>) parsed).keySet()));
+    }
+
+    @Test
+    void rejectsTrailingContentAndIncompleteDocuments() {
+        for (String json : List.of("{} x", "{}{}", "[1] ,", "[1,]", "{\"a\":1,}", "{\"a\"}", "[1 2]", "{", "tru", "nul")) {
+            assertThrows(IOException.class, () -> LingonJson.parse(json), json);
+        }
+    }
+
+    @Test
+    void reportsTheLineAndColumnOfErrors() {
+        IOException error = assertThrows(IOException.class, () -> LingonJson.parse("{\n  \"a\": ?\n}"));
+
+        assertTrue(error.getMessage().contains("line 2"), error.getMessage());
+        assertTrue(error.getMessage().contains("column 8"), error.getMessage());
+    }
+
+    @Test
+    void treatsEmptyInputAsBlankButNotAsADocument() {
+        for (String json : List.of("", " ", "\n\t\r ", "\uFEFF", "\uFEFF \n")) {
+            assertTrue(LingonJson.isBlank(json));
+            assertThrows(IOException.class, () -> LingonJson.parse(json));
+        }
+        assertFalse(LingonJson.isBlank(" {} "));
+        assertFalse(LingonJson.isBlank("x"));
+    }
+
+    @Test
+    void skipsALeadingByteOrderMark() throws IOException {
+        assertEquals(Map.of("a", "b"), LingonJson.parse("\uFEFF{\"a\":\"b\"}"));
+    }
+
+    @Test
+    void limitsNestingDepth() {
+        char[] open = new char[5000];
+        Arrays.fill(open, '[');
+
+        assertThrows(IOException.class, () -> LingonJson.parse(new String(open)));
+    }
+
+    @Test
+    void resolvesKeyPaths() throws IOException {
+        Object root = LingonJson.parse("{\"main\":{\"title\":\"T\"},\"items\":[\"a\",{\"name\":\"n\"}],\"a/b\":\"slash\",\"nul\":null}");
+
+        assertEquals("T", LingonJson.at(root, "main.title"));
+        assertEquals("n", LingonJson.at(root, "items[1].name"));
+        assertEquals("n", LingonJson.at(root, "items.1.name"));
+        assertEquals("slash", LingonJson.at(root, "a~1b"));
+        assertNull(LingonJson.at(root, "items[2]"));
+        // Like JSON Pointer, indexes with leading zeros are not array indexes
+        assertEquals("a", LingonJson.at(root, "items[0]"));
+        assertNull(LingonJson.at(root, "items[01].name"));
+        assertNull(LingonJson.at(root, "items.01.name"));
+        assertNull(LingonJson.at(root, "items[00]"));
+        assertNull(LingonJson.at(root, "main.title.length"));
+        assertNull(LingonJson.at(root, "nul"));
+        assertSame(root, LingonJson.at(root, ""));
+    }
+
+    @Test
+    void writesValuesTheWayJacksonRendersThem() throws IOException {
+        List<String> documents = List.of(
+                "{\"title\":\"Title\",\"items\":[\"a\",{\"name\":\"n\"}],\"empty\":{},\"none\":[]}",
+                "{\"quote\":\"say \\\"hi\\\"\",\"backslash\":\"a\\\\b\",\"slash\":\"a/b\",\"newline\":\"a\\nb\\r\\tc\"}",
+                "{\"control\":\"\\u0001\\u001f\\b\\f\",\"unicode\":\"\\u00e9\\u4e2d\\ud83d\\ude00\",\"del\":\"\\u007f\"}",
+                "[0,-0,1,-1,2147483647,2147483648,-9223372036854775808,9223372036854775808,123456789012345678901234567890]",
+                "[1.5,-0.0,0.1,1e2,1E-7,2.5e+20,123456789.125,1e300]",
+                "[1e400,-1e400,{\"huge\":1e999}]",
+                "[true,false,null,{\"a\":null}]",
+                "{\"a\":1,\"b\":2,\"a\":3}",
+                "  {\n  \"spaced\" : [ 1 , 2 ]\n}\n"
+        );
+
+        for (String document : documents) {
+            JsonNode expected = OBJECT_MAPPER.readTree(document);
+            assertEquals(expected.toString(), LingonJson.write(LingonJson.parse(document)), document);
+        }
+    }
+
+    @Test
+    void lookupsRenderValuesTheWayJacksonLookupsDid() throws IOException {
+        String document = "{\"text\":\"a\\nb\",\"number\":1.5,\"big\":12345678901234,\"flag\":true,"
+                + "\"object\":{\"x\":[1,\"y\"]},\"array\":[\"\\\"q\\\"\"],\"huge\":[1e400]}";
+        JsonNode tree = OBJECT_MAPPER.readTree(document);
+        LingonLang lang = new LingonLang("en_US", tree, "en_US", null);
+
+        for (String key : List.of("text", "number", "big", "flag", "object", "object.x", "array", "array[0]",
+                "huge", "huge[0]", "array[00]", "object.x[01]")) {
+            JsonNode node = tree.at("/" + key.replace('.', '/').replace("[", "/").replace("]", ""));
+            String expected = node.isMissingNode() ? key : node.isTextual() ? node.asText() : node.toString();
+            assertEquals(expected, lang.get(key).raw(), key);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link LingonPrefixIndex} and the bulk lookups built on it.
+ */
+class LingonPrefixIndexTest {
+    private static final LingonPrefixIndex NAMES = LingonPrefixIndex.ofNames(List.of(
+            "men", "menu", "menu-x", "menu.edit", "menu.file", "menuX", "menu[0]", "menu[1].name", "menus.a", "other"));
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    /**
+     * Build the leaf key index of a JSON document.
+     */
+    private static LingonPrefixIndex leaves(String json) throws IOException {
+        return LingonPrefixIndex.ofLeaves(LingonJson.parse(json));
+    }
+
+    @Test
+    void namespaceContainsItselfAndNamesBelowIt() {
+        List<String> menu = List.of("menu", "menu.edit", "menu.file", "menu[0]", "menu[1].name");
+
+        assertEquals(menu, NAMES.names("menu"));
+        assertEquals(menu, NAMES.names("menu."));
+        assertEquals(List.of("menu[0]"), NAMES.names("menu[0]"));
+        assertEquals(List.of("menu[1].name"), NAMES.names("menu[1]"));
+        assertEquals(List.of("menuX"), NAMES.names("menuX"));
+        assertEquals(List.of("men"), NAMES.names("men"));
+        assertEquals(List.of(), NAMES.names("menu.missing"));
+        assertEquals(List.of(), NAMES.names("zzz"));
+    }
+
+    @Test
+    void emptyNamespaceContainsEverything() {
+        assertEquals(10, NAMES.size());
+        assertEquals(NAMES.names(""), NAMES.names(null));
+        assertEquals(10, NAMES.names("").size());
+        assertEquals(List.of(), LingonPrefixIndex.EMPTY.names(""));
+    }
+
+    @Test
+    void indexesLeafValuesRenderedLikeLookups() throws IOException {
+        LingonPrefixIndex index = leaves("{\"menu\":{\"file\":\"File\",\"items\":[\"a\",{\"n\":1.5}]},"
+                + "\"flag\":true,\"nul\":null,\"empty\":{},\"none\":[]}");
+
+        assertEquals(Map.of("menu.file", "File", "menu.items[0]", "a", "menu.items[1].n", "1.5", "flag", "true"),
+                LingonPrefixIndex.resolve(index, LingonPrefixIndex.EMPTY, ""));
+        assertEquals(List.of("menu.items[0]", "menu.items[1].n"), index.names("menu.items"));
+    }
+
+    @Test
+    void primaryValuesWinOverFallbackValues() throws IOException {
+        LingonPrefixIndex primary = leaves("{\"menu\":{\"file\":\"Datei\"}}");
+        LingonPrefixIndex fallback = leaves("{\"menu\":{\"file\":\"File\",\"edit\":\"Edit\"},\"title\":\"Title\"}");
+
+        Map<String, String> resolved = LingonPrefixIndex.resolve(primary, fallback, "");
+
+        assertEquals(Map.of("menu.file", "Datei", "menu.edit", "Edit", "title", "Title"), resolved);
+        assertEquals(List.of("menu.edit", "menu.file", "title"), List.copyOf(resolved.keySet()));
+        assertEquals(Map.of("menu.file", "Datei", "menu.edit", "Edit"), LingonPrefixIndex.resolve(primary, fallback, "menu"));
+    }
+
+    @Test
+    void mergesScalarsAndObjectsTheWayLookupsDo() {
+        String scalar = "{\"menu\":\"Menu\"}";
+        String object = "{\"menu\":{\"file\":\"File\"}}";
+
+        // Scalar in the primary locale: "menu" is the scalar, "menu.file" only exists in the fallback
+        assertConsistentWithGet(scalar, object, Map.of("menu", "Menu", "menu.file", "File"));
+
+        // Object in the primary locale: "menu" resolves to the object, so the fallback scalar is shadowed
+        assertConsistentWithGet(object, scalar, Map.of("menu.file", "File"));
+
+        // Containers without leaves shadow the fallback scalar as well
+        assertShadowed("{\"menu\":{}}", scalar, "{}");
+        assertShadowed("{\"menu\":[]}", scalar, "[]");
+        assertShadowed("{\"menu\":{\"x\":null}}", scalar, "{\"x\":null}");
+
+        // A JSON null does not: the lookup falls through to the fallback
+        assertConsistentWithGet("{\"menu\":null}", scalar, Map.of("menu", "Menu"));
+    }
+
+    /**
+     * Check that a primary container without leaves hides the fallback scalar at "menu" from bulk lookups,
+     * as it does from single lookups.
+     */
+    private static void assertShadowed(String primaryJson, String fallbackJson, String rendered) {
+        assertConsistentWithGet(primaryJson, fallbackJson, Map.of());
+        assertEquals(rendered, Lingon.getInstance().get(Locale.GERMANY, "ui").get("menu").raw());
+    }
+
+    /**
+     * Check the bulk resolution of two documents against the expected result and against single lookups.
+     */
+    private static void assertConsistentWithGet(String primaryJson, String fallbackJson, Map<String, String> expected) {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("de_DE", "ui", primaryJson)
+                .put("en_US", "ui", fallbackJson);
+        Lingon.resetInstance();
+        LingonLang lang = Lingon.getInstance(source, Locale.US).get(Locale.GERMANY, "ui");
+
+        Map<String, String> all = lang.getAll("");
+        assertEquals(expected, all);
+        assertEquals(List.copyOf(all.keySet()), lang.getKeys(""));
+        for (Map.Entry<String, String> entry : all.entrySet()) {
+            assertEquals(lang.get(entry.getKey()).raw(), entry.getValue(), entry.getKey());
+        }
+    }
+
+    @Test
+    void bulkLookupsCoverFilesFromBothLocales() {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("en_US", "command", "{\"name\":\"Command\"}")
+                .put("en_US", "command.help", "{\"usage\":\"Usage\",\"lines\":[\"a\",\"b\"]}")
+                .put("en_US", "commands", "{\"x\":\"X\"}")
+                .put("zh_TW", "command.help", "{\"usage\":\"用法\"}")
+                .put("zh_TW", "ui", "{\"title\":\"標題\"}");
+        Lingon lingon = Lingon.getInstance(source, Locale.US);
+        LingonLocale zhTW = lingon.forLocale(Locale.TAIWAN);
+
+        // Files are a plain union: "command" is kept even though the primary locale has "command.help"
+        assertEquals(List.of("command", "command.help"), zhTW.getFiles("command"));
+        assertEquals(List.of("command", "command.help", "commands", "ui"), zhTW.getFiles(""));
+        assertEquals(List.of("command.help"), lingon.getFiles(Locale.TAIWAN, "command.help"));
+
+        Map<String, Map<String, String>> all = zhTW.getAll("command.");
+        assertEquals(List.of("command", "command.help"), List.copyOf(all.keySet()));
+        assertEquals(Map.of("name", "Command"), all.get("command"));
+        assertEquals(Map.of("usage", "用法", "lines[0]", "a", "lines[1]", "b"), all.get("command.help"));
+        assertEquals(all, lingon.getAll(Locale.TAIWAN, "command"));
+        assertEquals(4, lingon.getAll(Locale.TAIWAN, "").size());
+        assertTrue(lingon.getAll(Locale.TAIWAN, "missing").isEmpty());
+    }
+}
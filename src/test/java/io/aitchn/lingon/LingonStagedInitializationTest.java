@@ -0,0 +1,249 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the staged loading of {@link Lingon#initializeAsync(TranslationSource, Locale)}.
+ */
+class LingonStagedInitializationTest {
+    private static final Locale ZH_TW = Locale.TAIWAN;
+    private static final Locale JA_JP = Locale.JAPAN;
+
+    /**
+     * A source over in-memory documents whose first per-locale fetch of chosen locales blocks until released.
+     * The documents are read before blocking, so a released fetch returns what the source held when it started.
+     */
+    private static final class GatedSource implements TranslationSource {
+        private final InMemoryTranslationSource documents = new InMemoryTranslationSource();
+        private final Map<String, CountDownLatch> gates = new ConcurrentHashMap<>();
+        private final Map<String, CountDownLatch> started = new ConcurrentHashMap<>();
+        private final List<String> fetchedLocales = new CopyOnWriteArrayList<>();
+        private final AtomicInteger fullFetches = new AtomicInteger();
+        private volatile IOException failure;
+
+        void gate(String localeName) {
+            gates.put(localeName, new CountDownLatch(1));
+            started.put(localeName, new CountDownLatch(1));
+        }
+
+        void release(String localeName) {
+            gates.get(localeName).countDown();
+        }
+
+        void awaitStarted(String localeName) throws InterruptedException {
+            assertTrue(started.get(localeName).await(5, TimeUnit.SECONDS), "fetch of " + localeName + " did not start");
+        }
+
+        @Override
+        public TranslationSnapshot fetch(String knownVersion) {
+            fullFetches.incrementAndGet();
+            return documents.fetch(knownVersion);
+        }
+
+        @Override
+        public Set<String> fetchLocaleNames() {
+            return documents.fetchLocaleNames();
+        }
+
+        @Override
+        public Map<String, String> fetchLocale(String localeName) throws IOException {
+            fetchedLocales.add(localeName);
+            if (failure != null) {
+                IOException thrown = failure;
+                failure = null;
+                throw thrown;
+            }
+
+            Map<String, String> fetched = documents.fetchLocale(localeName);
+            CountDownLatch start = started.get(localeName);
+            if (start != null && start.getCount() > 0) {
+                start.countDown();
+                try {
+                    assertTrue(gates.get(localeName).await(5, TimeUnit.SECONDS), "fetch of " + localeName + " was not released");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            return fetched;
+        }
+    }
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    /**
+     * Create a source with English and Traditional Chinese titles.
+     *
+     * @return the source
+     */
+    private static GatedSource source() {
+        GatedSource source = new GatedSource();
+        source.documents.put("en_US", "ui", "{\"title\":\"Title\"}")
+                .put("zh_TW", "ui", "{\"title\":\"標題\"}");
+        return source;
+    }
+
+    /**
+     * Look up the title of a locale.
+     *
+     * @param lingon the instance
+     * @param locale the locale
+     * @return the title
+     */
+    private static String title(Lingon lingon, Locale locale) {
+        return lingon.get(locale, "ui").get("title").raw();
+    }
+
+    @Test
+    void readyBeforeTheRemainingLocalesAreLoaded() throws Exception {
+        GatedSource source = source();
+        source.gate("zh_TW");
+
+        Lingon lingon = Lingon.initializeAsync(source, Locale.US).get(5, TimeUnit.SECONDS);
+        source.awaitStarted("zh_TW");
+
+        assertTrue(lingon.isLocaleReady(Locale.US));
+        assertFalse(lingon.isLocaleReady(ZH_TW));
+        assertFalse(lingon.isFullyLoaded());
+        assertEquals("Title", title(lingon, ZH_TW));
+
+        CompletableFuture<Boolean> zhReady = lingon.whenLocaleReady(ZH_TW);
+        assertFalse(zhReady.isDone());
+
+        source.release("zh_TW");
+        assertTrue(zhReady.get(5, TimeUnit.SECONDS));
+        assertSame(lingon, lingon.whenFullyLoaded().get(5, TimeUnit.SECONDS));
+        assertEquals("標題", title(lingon, ZH_TW));
+
+        // Each locale is fetched on its own, the default one only once
+        assertEquals(List.of("en_US", "zh_TW"), source.fetchedLocales);
+        assertEquals(0, source.fullFetches.get());
+    }
+
+    @Test
+    void localeReadinessIsKeptOnceMarked() throws Exception {
+        GatedSource source = source();
+        source.documents.put("fr_FR", "ui", "{}").remove("fr_FR", "ui");
+        source.documents.put("ja_JP", "ui", "{\"title\":\"タイトル\"}");
+        source.gate("zh_TW");
+
+        Lingon lingon = Lingon.initializeAsync(source, Locale.US).get(5, TimeUnit.SECONDS);
+        source.awaitStarted("zh_TW");
+
+        // Locales are loaded in sorted order, so both were handled before zh_TW and are ready while it is loading
+        assertFalse(lingon.isFullyLoaded());
+        assertTrue(lingon.whenLocaleReady(JA_JP).isDone());
+        assertTrue(lingon.whenLocaleReady(JA_JP).join());
+        assertTrue(lingon.isLocaleReady(Locale.FRANCE));
+        assertFalse(lingon.whenLocaleReady(Locale.FRANCE).join());
+
+        CompletableFuture<Boolean> unknown = lingon.whenLocaleReady(Locale.GERMANY);
+        assertFalse(unknown.isDone());
+
+        source.release("zh_TW");
+        assertTrue(lingon.whenLocaleReady(ZH_TW).get(5, TimeUnit.SECONDS));
+        assertFalse(unknown.get(5, TimeUnit.SECONDS));
+        assertTrue(lingon.isLocaleReady(Locale.GERMANY));
+    }
+
+    @Test
+    void reloadDuringTheStagedLoadIsNotOverwritten() throws Exception {
+        GatedSource source = source();
+        source.gate("zh_TW");
+
+        Lingon lingon = Lingon.initializeAsync(source, Locale.US).get(5, TimeUnit.SECONDS);
+        source.awaitStarted("zh_TW");
+
+        // The staged fetch of zh_TW already holds the old title
+        source.documents.put("zh_TW", "ui", "{\"title\":\"新標題\"}");
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(lingon::reload);
+        CompletableFuture<Boolean> reloadLocale = CompletableFuture.supplyAsync(() -> lingon.reloadLocale(ZH_TW));
+
+        Thread.sleep(100);
+        assertFalse(reload.isDone());
+        assertFalse(reloadLocale.isDone());
+
+        source.release("zh_TW");
+        reload.get(5, TimeUnit.SECONDS);
+        assertTrue(reloadLocale.get(5, TimeUnit.SECONDS));
+        assertEquals("新標題", title(lingon, ZH_TW));
+    }
+
+    @Test
+    void reloadFromAReadinessCallbackRunsDirectly() throws Exception {
+        GatedSource source = source();
+        source.documents.put("ja_JP", "ui", "{\"title\":\"タイトル\"}");
+        source.gate("ja_JP");
+        source.gate("zh_TW");
+
+        Lingon lingon = Lingon.initializeAsync(source, Locale.US).get(5, TimeUnit.SECONDS);
+        source.awaitStarted("ja_JP");
+
+        // The callback runs on the staging thread; queueing the reload behind the stage would never finish
+        CompletableFuture<Boolean> reloaded = lingon.whenLocaleReady(JA_JP)
+                .thenApply(ready -> lingon.reloadLocale(JA_JP));
+        source.release("ja_JP");
+
+        assertTrue(reloaded.get(5, TimeUnit.SECONDS));
+        assertFalse(lingon.isFullyLoaded());
+        source.release("zh_TW");
+        assertTrue(lingon.whenLocaleReady(ZH_TW).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fetchOnlySourcesAreFetchedOnce() throws Exception {
+        InMemoryTranslationSource documents = new InMemoryTranslationSource();
+        for (String localeName : List.of("de_DE", "en_US", "fr_FR", "ja_JP", "ko_KR", "zh_TW")) {
+            documents.put(localeName, "ui", "{\"title\":\"" + localeName + "\"}");
+        }
+        AtomicInteger fetches = new AtomicInteger();
+        TranslationSource source = knownVersion -> {
+            fetches.incrementAndGet();
+            return documents.fetch(knownVersion);
+        };
+
+        Lingon lingon = Lingon.initializeAsync(source, Locale.US).get(5, TimeUnit.SECONDS);
+        lingon.whenFullyLoaded().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, fetches.get());
+        assertEquals(6, lingon.getLoadedLocales().size());
+        assertEquals("ko_KR", title(lingon, Locale.KOREA));
+    }
+
+    @Test
+    void failedFirstStageCanBeRetried() throws Exception {
+        GatedSource source = source();
+        source.failure = new IOException("unreachable");
+
+        CompletionException failure = assertThrows(CompletionException.class,
+                () -> Lingon.initializeAsync(source, Locale.US).join());
+        assertTrue(failure.getCause() instanceof UncheckedIOException);
+        assertFalse(Lingon.isInitialized());
+        assertThrows(IllegalStateException.class, Lingon::getInstance);
+
+        Lingon lingon = Lingon.initializeAsync(source, Locale.US).get(5, TimeUnit.SECONDS);
+        assertSame(lingon, Lingon.getInstance());
+        lingon.whenFullyLoaded().get(5, TimeUnit.SECONDS);
+        assertEquals("標題", title(lingon, ZH_TW));
+    }
+}
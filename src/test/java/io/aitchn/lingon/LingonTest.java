@@ -0,0 +1,79 @@
+package io.aitchn.lingon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests loading and reloading language data through {@link Lingon}.
+ */
+class LingonTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    /**
+     * Write a language file below the temporary directory.
+     */
+    private void write(String relativePath, String contents) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, contents, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void emptyFilesAreTreatedAsAbsent() throws Exception {
+        write("en_US/ui.json", "{\"title\":\"Title\"}");
+        write("ja_JP/ui.json", "");
+        write("ja_JP/menu.json", " \n\t");
+        write("zh_TW/ui.json", "\uFEFF");
+        write("zh_TW/menu.json", "{\"file\":\"檔案\"}");
+
+        Lingon lingon = Lingon.getInstance(new FileSystemTranslationSource(tempDir), Locale.US);
+
+        // A locale of placeholders is loaded, but every lookup falls back
+        assertEquals(Set.of("en_US", "ja_JP", "zh_TW"), lingon.getLoadedLocales());
+        assertEquals(List.of("ui"), lingon.getFiles(Locale.JAPAN, ""));
+        assertEquals("Title", lingon.get(Locale.JAPAN, "ui").get("title").raw());
+        assertEquals("Title", lingon.get(Locale.TAIWAN, "ui").get("title").raw());
+        assertEquals(List.of("menu", "ui"), lingon.getFiles(Locale.TAIWAN, ""));
+
+        assertDoesNotThrow(lingon::reload);
+        assertFalse(lingon.refreshAsync().get());
+
+        // Filling in a placeholder loads it like any other file
+        write("ja_JP/ui.json", "{\"title\":\"タイトル\"}");
+        assertTrue(lingon.reloadLocale(Locale.JAPAN));
+        assertEquals("タイトル", lingon.get(Locale.JAPAN, "ui").get("title").raw());
+    }
+
+    @Test
+    void jacksonViewsAreSharedAcrossLookups() {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("en_US", "ui", "{\"title\":\"Title\",\"items\":[1,2]}");
+        Lingon lingon = Lingon.getInstance(source, Locale.US);
+
+        JsonNode node = lingon.get(Locale.US, "ui").getPrimaryLanguageData();
+
+        assertEquals("{\"title\":\"Title\",\"items\":[1,2]}", node.toString());
+        assertSame(node, lingon.get(Locale.US, "ui").getPrimaryLanguageData());
+        assertSame(node, lingon.forLocale(Locale.TAIWAN).get("ui").getFallbackLanguageData());
+        assertTrue(lingon.get(Locale.TAIWAN, "ui").getPrimaryLanguageData().isMissingNode());
+    }
+}
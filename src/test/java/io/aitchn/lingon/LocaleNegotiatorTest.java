@@ -0,0 +1,102 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link LocaleNegotiator} and its invalidation through {@link Lingon#negotiateLocale(String)}.
+ */
+class LocaleNegotiatorTest {
+    private static final Locale FRENCH = new Locale("fr");
+
+    private final LocaleNegotiator negotiator =
+            new LocaleNegotiator(0, Set.of("en_US", "en_GB", "zh_TW", "fr"), Locale.US);
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    @Test
+    void prefersHigherQualities() {
+        assertEquals(Locale.TAIWAN, negotiator.negotiate("en;q=0.5, zh-TW;q=0.9"));
+        assertEquals(FRENCH, negotiator.negotiate("zh-TW;q=0.2,fr;q=0.8,en;q=0.5"));
+    }
+
+    @Test
+    void keepsHeaderOrderForEqualQualities() {
+        assertEquals(FRENCH, negotiator.negotiate("fr, zh-TW"));
+        assertEquals(Locale.TAIWAN, negotiator.negotiate("zh-TW;q=0.5, fr;q=0.5"));
+    }
+
+    @Test
+    void fallsBackToALoadedLocaleOfTheSameLanguage() {
+        assertEquals(Locale.UK, negotiator.negotiate("en-GB"));
+        assertEquals(Locale.TAIWAN, negotiator.negotiate("zh-CN"));
+        assertEquals(FRENCH, negotiator.negotiate("fr-CA"));
+        // The default locale wins for its own language
+        assertEquals(Locale.US, negotiator.negotiate("en-AU"));
+        assertEquals(Locale.US, negotiator.negotiate("en"));
+    }
+
+    @Test
+    void wildcardAndUnmatchedHeadersReturnTheDefaultLocale() {
+        assertEquals(Locale.US, negotiator.negotiate("*"));
+        assertEquals(Locale.US, negotiator.negotiate("de, *;q=0.1"));
+        assertEquals(Locale.US, negotiator.negotiate("de-DE, ja"));
+        assertEquals(Locale.US, negotiator.negotiate(""));
+        assertEquals(Locale.US, negotiator.negotiate(null));
+    }
+
+    @Test
+    void dropsRangesWithZeroOrInvalidQualities() {
+        assertEquals(FRENCH, negotiator.negotiate("zh-TW;q=0, fr;q=0.1"));
+        assertEquals(FRENCH, negotiator.negotiate("zh-TW;q=NaN, fr;q=0.1"));
+        assertEquals(FRENCH, negotiator.negotiate("zh-TW;q=1.5, fr;q=0.1"));
+        assertEquals(FRENCH, negotiator.negotiate("zh-TW;q=-1, fr;q=0.1"));
+        assertEquals(FRENCH, negotiator.negotiate("zh-TW;q=0.1234, fr;q=0.1"));
+        assertEquals(Locale.TAIWAN, negotiator.negotiate("fr;q=0.999, zh-TW;q=1.000"));
+    }
+
+    @Test
+    void boundsTheCacheAndKeepsHeadersInUse() {
+        negotiator.negotiate("fr");
+        for (int i = 0; i < 1000; i++) {
+            // Keep "fr" in use while the cache overflows
+            negotiator.negotiate("fr");
+            negotiator.negotiate("de;q=0." + String.format("%03d", i));
+        }
+
+        assertEquals(256, negotiator.getCacheSize());
+        assertTrue(negotiator.isCached("fr"));
+        assertTrue(negotiator.isCached("de;q=0.999"));
+        assertEquals(FRENCH, negotiator.negotiate("fr"));
+    }
+
+    @Test
+    void lingonInvalidatesCachedResultsWhenLocalesOrTheDefaultChange() {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("en_US", "ui", "{\"title\":\"Title\"}")
+                .put("zh_TW", "ui", "{\"title\":\"標題\"}");
+        Lingon lingon = Lingon.getInstance(source, Locale.US);
+
+        assertEquals(Locale.US, lingon.negotiateLocale("de"));
+        assertEquals(Locale.US, lingon.negotiateLocale("fr"));
+
+        lingon.setDefaultLocale(Locale.TAIWAN);
+        assertEquals(Locale.TAIWAN, lingon.negotiateLocale("de"));
+
+        source.put("fr", "ui", "{\"title\":\"Titre\"}");
+        assertTrue(lingon.reloadLocale(FRENCH));
+        assertEquals(FRENCH, lingon.negotiateLocale("fr"));
+
+        source.removeLocale("fr");
+        lingon.reload();
+        assertEquals(Locale.TAIWAN, lingon.negotiateLocale("fr"));
+    }
+}
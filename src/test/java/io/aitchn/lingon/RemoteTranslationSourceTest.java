@@ -0,0 +1,162 @@
+package io.aitchn.lingon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link RemoteTranslationSource} and background refresh against a local stub {@link RemoteTranslationSource.Transport}.
+ */
+class RemoteTranslationSourceTest {
+
+    /**
+     * A transport answering with a settable bundle and ETag, honoring If-None-Match.
+     */
+    private static final class StubTransport implements RemoteTranslationSource.Transport {
+        private final List<String> requestedEtags = new ArrayList<>();
+        private volatile String etag;
+        private volatile String body;
+        private volatile IOException failure;
+
+        void serve(String etag, String body) {
+            this.etag = etag;
+            this.body = body;
+            this.failure = null;
+        }
+
+        void fail(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public synchronized RemoteTranslationSource.Response send(String requestedEtag) throws IOException {
+            requestedEtags.add(requestedEtag);
+            if (failure != null) {
+                throw failure;
+            }
+            if (requestedEtag != null && requestedEtag.equals(etag)) {
+                return RemoteTranslationSource.Response.notModified();
+            }
+            return RemoteTranslationSource.Response.ok(etag, body);
+        }
+    }
+
+    @AfterEach
+    void resetLingon() {
+        Lingon.resetInstance();
+    }
+
+    @Test
+    void splitsBundleIntoDocuments() throws IOException {
+        StubTransport transport = new StubTransport();
+        transport.serve("v1", "{\"en_US\":{\"ui\":{\"title\":\"Title\"},\"command.help\":{\"usage\":[\"a\",1]}}}");
+
+        TranslationSnapshot snapshot = new RemoteTranslationSource(transport).fetch(null);
+
+        assertEquals("v1", snapshot.getVersion());
+        assertEquals(Map.of("ui", "{\"title\":\"Title\"}", "command.help", "{\"usage\":[\"a\",1]}"),
+                snapshot.getDocuments("en_US"));
+    }
+
+    @Test
+    void notModifiedSkipsTheSnapshot() throws IOException {
+        StubTransport transport = new StubTransport();
+        transport.serve("v1", "{\"en_US\":{\"ui\":{}}}");
+
+        assertNull(new RemoteTranslationSource(transport).fetch("v1"));
+    }
+
+    @Test
+    void rejectsNotModifiedToAnUnconditionalRequest() {
+        RemoteTranslationSource source = new RemoteTranslationSource(etag -> RemoteTranslationSource.Response.notModified());
+
+        assertThrows(IOException.class, () -> source.fetch(null));
+    }
+
+    @Test
+    void rejectsBundlesThatAreNotObjects() {
+        RemoteTranslationSource source = new RemoteTranslationSource(etag -> RemoteTranslationSource.Response.ok("v1", "{\"en_US\":[]}"));
+
+        assertThrows(IOException.class, () -> source.fetch(null));
+    }
+
+    @Test
+    void perLocaleFetchesDownloadTheBundleOnce() throws IOException {
+        StubTransport transport = new StubTransport();
+        transport.serve("v1", "{\"en_US\":{\"ui\":{}},\"zh_TW\":{\"ui\":{\"title\":\"標題\"}}}");
+        RemoteTranslationSource source = new RemoteTranslationSource(transport);
+
+        assertEquals(Set.of("en_US", "zh_TW"), source.fetchLocaleNames());
+        assertEquals(Map.of("ui", "{\"title\":\"標題\"}"), source.fetchLocale("zh_TW"));
+        assertEquals(Map.of(), source.fetchLocale("ja_JP"));
+        assertEquals(Arrays.asList(null, "v1", "v1"), transport.requestedEtags);
+
+        transport.serve("v2", "{\"en_US\":{\"ui\":{\"title\":\"Title\"}}}");
+        assertEquals(Map.of("ui", "{\"title\":\"Title\"}"), source.fetchLocale("en_US"));
+    }
+
+    @Test
+    void refreshSendsTheLoadedEtagAndSkipsUnchangedBundles() throws Exception {
+        StubTransport transport = new StubTransport();
+        transport.serve("v1", "{\"en_US\":{\"ui\":{\"title\":\"One\"}}}");
+        Lingon lingon = Lingon.getInstance(new RemoteTranslationSource(transport), Locale.US);
+
+        assertFalse(lingon.refreshAsync().get());
+        assertEquals("v1", transport.requestedEtags.get(transport.requestedEtags.size() - 1));
+
+        transport.serve("v2", "{\"en_US\":{\"ui\":{\"title\":\"Two\"}}}");
+        assertTrue(lingon.refreshAsync().get());
+        assertEquals("Two", lingon.get(Locale.US, "ui").get("title").raw());
+    }
+
+    @Test
+    void failedRefreshKeepsTheLastGoodCatalog() throws Exception {
+        StubTransport transport = new StubTransport();
+        transport.serve("v1", "{\"en_US\":{\"ui\":{\"title\":\"One\"}}}");
+        Lingon lingon = Lingon.getInstance(new RemoteTranslationSource(transport), Locale.US);
+
+        transport.fail(new IOException("connection refused"));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> lingon.refreshAsync().get());
+        assertTrue(failure.getCause() instanceof UncheckedIOException);
+        assertEquals("One", lingon.get(Locale.US, "ui").get("title").raw());
+
+        transport.serve("v2", "{\"en_US\":{\"ui\":{\"title\":");
+        assertThrows(ExecutionException.class, () -> lingon.refreshAsync().get());
+        assertEquals("One", lingon.get(Locale.US, "ui").get("title").raw());
+
+        // The failed refreshes did not advance the version, so the next good bundle is picked up
+        transport.serve("v3", "{\"en_US\":{\"ui\":{\"title\":\"Three\"}}}");
+        assertTrue(lingon.refreshAsync().get());
+        assertEquals("Three", lingon.get(Locale.US, "ui").get("title").raw());
+    }
+
+    @Test
+    void inMemorySourceSkipsUnchangedDataAndKeepsTheLastGoodCatalog() throws Exception {
+        InMemoryTranslationSource source = new InMemoryTranslationSource()
+                .put("en_US", "ui", "{\"title\":\"One\"}");
+        Lingon lingon = Lingon.getInstance(source, Locale.US);
+
+        assertFalse(lingon.refreshAsync().get());
+
+        source.put("en_US", "ui", "{\"title\":\"Two\"}");
+        assertTrue(lingon.refreshAsync().get());
+        assertEquals("Two", lingon.get(Locale.US, "ui").get("title").raw());
+
+        source.put("en_US", "broken", "{\"title\"");
+        assertThrows(ExecutionException.class, () -> lingon.refreshAsync().get());
+        assertThrows(UncheckedIOException.class, lingon::reload);
+        assertEquals("Two", lingon.get(Locale.US, "ui").get("title").raw());
+        assertEquals(List.of("ui"), lingon.getFiles(Locale.US, ""));
+    }
+}